@@ -0,0 +1,96 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.FilterByInjuryPredicate;
+import seedu.address.model.person.FilterInjuredPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.FilterByPositionPredicate;
+import seedu.address.model.team.FilterByTeamPredicate;
+import seedu.address.model.util.RosterGenerator;
+
+/**
+ * Compares filtering the person list by testing every person against the filter predicates with filtering it by
+ * a selection from the bitmap index, for {@code filter tm/ i/ ps/}, {@code listinjured} and {@code listcaptain}.
+ * The filtered list still tests every person against a selection, but each test is one lookup in the set of persons
+ * collected from the bitmaps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rosterSize;
+
+    private AddressBook addressBook;
+    private FilteredList<Person> filteredPersons;
+    private FilterByTeamPredicate teamPredicate;
+    private FilterByInjuryPredicate injuryPredicate;
+    private FilterByPositionPredicate positionPredicate;
+
+    /**
+     * Builds the roster and the filtered list over it.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = new RosterGenerator().withPlayers(rosterSize).generate();
+        filteredPersons = new FilteredList<>(addressBook.getPersonList());
+        teamPredicate = new FilterByTeamPredicate(RosterGenerator.getTeamName(0));
+        injuryPredicate = new FilterByInjuryPredicate(RosterGenerator.INJURY_NAMES[0]);
+        positionPredicate = new FilterByPositionPredicate(RosterGenerator.getPositionName(1));
+    }
+
+    @Benchmark
+    public int filterByPredicate() {
+        return applyFilter(teamPredicate.and(injuryPredicate).and(positionPredicate));
+    }
+
+    @Benchmark
+    public int filterByBitmap() {
+        return applyFilter(addressBook.selectPersons(teamPredicate, injuryPredicate, positionPredicate));
+    }
+
+    @Benchmark
+    public int listInjuredByPredicate() {
+        return applyFilter(new FilterInjuredPredicate());
+    }
+
+    @Benchmark
+    public int listInjuredByBitmap() {
+        return applyFilter(addressBook.selectInjuredPersons());
+    }
+
+    @Benchmark
+    public int listCaptainByPredicate() {
+        return applyFilter(Person::isCaptain);
+    }
+
+    @Benchmark
+    public int listCaptainByBitmap() {
+        return applyFilter(addressBook.selectCaptains());
+    }
+
+    private int applyFilter(Predicate<Person> predicate) {
+        filteredPersons.setPredicate(predicate);
+        return filteredPersons.size();
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.FilterCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.RosterGenerator;
+
+/**
+ * Measures executing a {@code filter} command by team, injury and position against a model, including the update
+ * of the filtered person list shown by the UI.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterCommandBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rosterSize;
+
+    private Model model;
+    private FilterCommand filterCommand;
+
+    /**
+     * Builds the model and parses the filter command.
+     */
+    @Setup
+    public void setUp() throws ParseException {
+        model = new ModelManager(new RosterGenerator().withPlayers(rosterSize).generate(), new UserPrefs());
+        filterCommand = new FilterCommandParser().parse(" tm/" + RosterGenerator.getTeamName(0)
+                + " i/" + RosterGenerator.INJURY_NAMES[0] + " ps/" + RosterGenerator.getPositionName(1));
+    }
+
+    @Benchmark
+    public CommandResult execute() throws CommandException {
+        return filterCommand.execute(model);
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.RosterGenerator;
+
+/**
+ * Measures testing one person against the predicate of {@code find}, which happens for every person on every search.
+ * {@code test} uses {@link NameContainsKeywordsPredicate}, and {@code testBySplitting} matches each keyword as the
+ * predicate used to, by splitting the name with {@link StringUtil#containsWordIgnoreCase(String, String)}.
+ * {@code selectAndTest} looks the keywords up in the name index first, as {@code find} does, and then tests every
+ * person against the selection, as the filtered person list does.
+ * Scores are per person tested; run with the {@code gc} profiler, whose {@code gc.alloc.rate.norm} is the number of
+ * bytes allocated for each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FindBenchmark {
+
+    private static final int ROSTER_SIZE = 1024;
+    private static final List<String> KEYWORDS = List.of("charlotte", "TAN", "Nobody");
+
+    private AddressBook addressBook;
+    private List<Person> persons;
+    private NameContainsKeywordsPredicate predicate;
+
+    /**
+     * Builds the roster and the predicate.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = new RosterGenerator().withPlayers(ROSTER_SIZE).generate();
+        persons = addressBook.getPersonList();
+        predicate = new NameContainsKeywordsPredicate(KEYWORDS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROSTER_SIZE)
+    public int test() {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROSTER_SIZE)
+    public int testBySplitting() {
+        int matches = 0;
+        for (Person person : persons) {
+            if (KEYWORDS.stream().anyMatch(keyword ->
+                    StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword))) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROSTER_SIZE)
+    public int selectAndTest() {
+        Predicate<Person> selection = addressBook.selectPersonsByName(predicate);
+        int matches = 0;
+        for (Person person : persons) {
+            if (selection.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.RosterGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Writes a generated roster to a PlayBook data file, for load-testing the app or the benchmarks with large data.
+ * <p>
+ * Usage: {@code ./gradlew generateRoster --args="FILE [PLAYERS] [TEAMS] [POSITIONS] [SEED]"}
+ *
+ * @see RosterGenerator
+ */
+public class GenerateRoster {
+
+    private static final String USAGE = "Usage: generateRoster FILE [PLAYERS] [TEAMS] [POSITIONS] [SEED]";
+
+    /**
+     * Generates the roster described by {@code args} and saves it to the given file.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 5) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        Path filePath = Paths.get(args[0]);
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : RosterGenerator.DEFAULT_SEED;
+        RosterGenerator generator = new RosterGenerator(seed)
+                .withPlayers(args.length > 1 ? Integer.parseInt(args[1]) : RosterGenerator.DEFAULT_PLAYER_COUNT)
+                .withTeams(args.length > 2 ? Integer.parseInt(args[2]) : RosterGenerator.DEFAULT_TEAM_COUNT)
+                .withPositions(args.length > 3 ? Integer.parseInt(args[3]) : RosterGenerator.DEFAULT_POSITION_COUNT);
+
+        AddressBook addressBook = generator.generate();
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        System.out.println("Wrote " + addressBook.getPersonList().size() + " players to " + filePath);
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.RosterGenerator;
+
+/**
+ * Measures scanning a plain list of persons with {@code Person#equals}, which compares the cached hash codes before
+ * any field. The person looked up is an equal copy of the last person, never the stored instance, so every other
+ * person is rejected by {@code equals} before it is found, and the last one is compared field by field.
+ * {@code indexOfComparingFields} scans for it comparing every person field by field, as {@code equals} did before
+ * hash codes were cached, as the baseline. {@code removeAndAdd} removes the stored person with the copy and puts the
+ * stored person back, so the list and the copy stay as they were.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonListBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rosterSize;
+
+    private List<Person> persons;
+    private Person lastPerson;
+    private Person lastPersonCopy;
+
+    /**
+     * Builds the roster and an equal copy of its last person.
+     */
+    @Setup
+    public void setUp() {
+        persons = new ArrayList<>(new RosterGenerator().withPlayers(rosterSize).generate().getPersonList());
+        lastPerson = persons.get(persons.size() - 1);
+        lastPersonCopy = lastPerson.withCaptain(lastPerson.isCaptain());
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return persons.indexOf(lastPersonCopy);
+    }
+
+    @Benchmark
+    public int indexOfComparingFields() {
+        for (int i = 0; i < persons.size(); i++) {
+            if (hasSameFields(persons.get(i), lastPersonCopy)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int removeAndAdd() {
+        persons.remove(lastPersonCopy);
+        persons.add(lastPerson);
+        return persons.size();
+    }
+
+    /**
+     * Returns true if {@code person} and {@code other} have the same fields, without comparing their hash codes.
+     */
+    private static boolean hasSameFields(Person person, Person other) {
+        return person.getName().equals(other.getName())
+                && person.getPhone().equals(other.getPhone())
+                && person.getEmail().equals(other.getEmail())
+                && person.getAddress().equals(other.getAddress())
+                && person.getTeam().equals(other.getTeam())
+                && person.getTags().equals(other.getTags())
+                && person.getPosition().equals(other.getPosition())
+                && person.getInjuries().equals(other.getInjuries())
+                && person.isCaptain() == other.isCaptain();
+    }
+}
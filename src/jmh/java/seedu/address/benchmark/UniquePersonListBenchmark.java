@@ -0,0 +1,73 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.util.RosterGenerator;
+
+/**
+ * Measures adding a person to, checking for a person in, and replacing a person in a {@code UniquePersonList}.
+ * Each benchmark leaves the list as it found it, so the roster size stays fixed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rosterSize;
+
+    private UniquePersonList persons;
+    private Person newPerson;
+    private Person existingPerson;
+    private Person editedPerson;
+
+    /**
+     * Builds the roster, a person who is not in it, and an edited copy of the person in the middle of it.
+     */
+    @Setup
+    public void setUp() {
+        RosterGenerator generator = new RosterGenerator().withPlayers(rosterSize);
+        List<Person> roster = generator.generate().getPersonList();
+        persons = new UniquePersonList();
+        persons.setPersons(roster);
+
+        newPerson = generator.generatePerson(rosterSize);
+        existingPerson = roster.get(rosterSize / 2);
+        editedPerson = existingPerson.withCaptain(!existingPerson.isCaptain());
+    }
+
+    @Benchmark
+    public void addAndRemove() {
+        persons.add(newPerson);
+        persons.remove(newPerson);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return persons.contains(existingPerson);
+    }
+
+    @Benchmark
+    public void setPerson() {
+        persons.setPerson(existingPerson, editedPerson);
+        persons.setPerson(editedPerson, existingPerson);
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.RosterGenerator;
+
+/**
+ * Measures saving and reading the address book file, and converting the deserialized address book into the model.
+ * Saving is measured both indented and on a single line, and also by building the whole document as a string, as
+ * {@code JsonUtil#saveJsonFile} does; run with the {@code gc} profiler to compare the bytes each save allocates.
+ * Saving and reading are also measured in the binary format, to compare its load time against JSON.
+ * {@code save} rewrites an unchanged roster, which {@code JsonAddressBookStorage} copies from its record cache, while
+ * {@code saveAfterEdit} edits one player before each save, as a typical command does.
+ * It lives in the storage package because {@code JsonSerializableAddressBook} is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StorageBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rosterSize;
+
+    private Path dataDirectory;
+    private JsonAddressBookStorage storage;
+    private JsonAddressBookStorage compactStorage;
+    private BinaryAddressBookStorage binaryStorage;
+    private AddressBook addressBook;
+    private JsonSerializableAddressBook serializableAddressBook;
+
+    /**
+     * Builds the roster and saves it to temporary files for the read benchmarks.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("playbook-benchmark");
+        storage = new JsonAddressBookStorage(dataDirectory.resolve("playbook.json"));
+        compactStorage = new JsonAddressBookStorage(dataDirectory.resolve("playbook-compact.json"), false);
+        addressBook = new RosterGenerator().withPlayers(rosterSize).generate();
+        serializableAddressBook = new JsonSerializableAddressBook(addressBook);
+        binaryStorage = new BinaryAddressBookStorage(dataDirectory.resolve("playbook.bin"));
+        storage.saveAddressBook(addressBook);
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the temporary files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(compactStorage.getAddressBookFilePath());
+        Files.deleteIfExists(binaryStorage.getAddressBookFilePath());
+        Files.deleteIfExists(dataDirectory);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Edits one player and saves the roster.
+     */
+    @Benchmark
+    public void saveAfterEdit() throws IOException {
+        Person person = addressBook.getPersonList().get(0);
+        addressBook.setPerson(person, person.withCaptain(!person.isCaptain()));
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void saveCompact() throws IOException {
+        compactStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void saveAsString() throws IOException {
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), storage.getAddressBookFilePath());
+    }
+
+    @Benchmark
+    public void saveBinary() throws IOException {
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readBinary() throws DataLoadingException {
+        return binaryStorage.readAddressBook();
+    }
+
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return serializableAddressBook.toModelType();
+    }
+}
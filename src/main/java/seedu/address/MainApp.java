@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -13,9 +14,11 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandQueue;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -23,6 +26,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -42,6 +47,7 @@ public class MainApp extends Application {
 
     protected Ui ui;
     protected Logic logic;
+    protected CommandQueue commandQueue;
     protected Storage storage;
     protected Model model;
     protected Config config;
@@ -57,14 +63,25 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage addressBookStorage;
+        if (userPrefs.getAddressBookFormat() == AddressBookFormat.BINARY) {
+            addressBookStorage = new BinaryAddressBookStorage(addressBookFilePath);
+        } else if (config.isAddressBookJournalEnabled()) {
+            addressBookStorage = new JournaledAddressBookStorage(addressBookFilePath);
+        } else {
+            addressBookStorage = new JsonAddressBookStorage(addressBookFilePath, config.isAddressBookPrettyPrinted(),
+                    config.isAddressBookCompressed());
+        }
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
 
-        ui = new UiManager(logic);
+        commandQueue = new CommandQueue(logic, CommandQueue.createBackgroundExecutor(), Platform::runLater);
+
+        ui = new UiManager(logic, commandQueue);
     }
 
     /**
@@ -177,6 +194,9 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        // running commands may request saves, and the window queues its GUI settings behind them, so they finish first
+        commandQueue.flush();
+        logic.flushSaves();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isAddressBookJournalEnabled = false;
+    private boolean isAddressBookPrettyPrinted = true;
+    private boolean isAddressBookCompressed = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isAddressBookJournalEnabled() {
+        return isAddressBookJournalEnabled;
+    }
+
+    public void setAddressBookJournalEnabled(boolean isAddressBookJournalEnabled) {
+        this.isAddressBookJournalEnabled = isAddressBookJournalEnabled;
+    }
+
+    public boolean isAddressBookPrettyPrinted() {
+        return isAddressBookPrettyPrinted;
+    }
+
+    public void setAddressBookPrettyPrinted(boolean isAddressBookPrettyPrinted) {
+        this.isAddressBookPrettyPrinted = isAddressBookPrettyPrinted;
+    }
+
+    public boolean isAddressBookCompressed() {
+        return isAddressBookCompressed;
+    }
+
+    public void setAddressBookCompressed(boolean isAddressBookCompressed) {
+        this.isAddressBookCompressed = isAddressBookCompressed;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +74,16 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && isAddressBookJournalEnabled == otherConfig.isAddressBookJournalEnabled
+                && isAddressBookPrettyPrinted == otherConfig.isAddressBookPrettyPrinted
+                && isAddressBookCompressed == otherConfig.isAddressBookCompressed;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isAddressBookJournalEnabled, isAddressBookPrettyPrinted,
+                isAddressBookCompressed);
     }
 
     @Override
@@ -60,6 +91,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("isAddressBookJournalEnabled", isAddressBookJournalEnabled)
+                .add("isAddressBookPrettyPrinted", isAddressBookPrettyPrinted)
+                .add("isAddressBookCompressed", isAddressBookCompressed)
                 .toString();
     }
 
@@ -0,0 +1,228 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set backed by a plain array, meant for the handful of elements a person carries (such as tags and
+ * injuries). It does not allow nulls.
+ * <p>
+ * Elements are kept in order of their hash codes, so sets with the same elements iterate in the same order however
+ * they were built. The hash code of the set is computed once. Membership is a linear scan that tries reference
+ * equality before {@code equals}, which is cheapest when the elements are shared instances.
+ * <p>
+ * Every mutator throws {@code UnsupportedOperationException}; use {@link #with(Object)} and {@link #without(Object)}
+ * to derive a new set instead. Copying a {@code CompactSet} with {@link #copyOf(Collection)} returns it unchanged,
+ * so copies of an object can share their sets.
+ *
+ * @param <E> the type of the elements.
+ */
+public final class CompactSet<E> extends AbstractSet<E> {
+
+    private static final CompactSet<?> EMPTY = new CompactSet<>(new Object[0]);
+
+    private final Object[] elements;
+    private final int hashCode;
+
+    private CompactSet(Object[] elements) {
+        this.elements = elements;
+        int sum = 0;
+        for (Object element : elements) {
+            sum += element.hashCode();
+        }
+        this.hashCode = sum;
+    }
+
+    /**
+     * Returns the empty set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> CompactSet<E> of() {
+        return (CompactSet<E>) EMPTY;
+    }
+
+    /**
+     * Returns a set containing only {@code element}.
+     */
+    public static <E> CompactSet<E> of(E element) {
+        requireNonNull(element);
+        return new CompactSet<>(new Object[] {element});
+    }
+
+    /**
+     * Returns a set containing the distinct elements of {@code source}.
+     * If {@code source} is already a {@code CompactSet}, it is returned as is.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> CompactSet<E> copyOf(Collection<? extends E> source) {
+        requireNonNull(source);
+        if (source instanceof CompactSet) {
+            return (CompactSet<E>) source;
+        }
+        if (source.isEmpty()) {
+            return of();
+        }
+
+        Object[] distinct = new Object[source.size()];
+        int size = 0;
+        for (E element : source) {
+            requireNonNull(element);
+            if (indexOf(distinct, size, element) == -1) {
+                distinct[size++] = element;
+            }
+        }
+        Object[] elements = Arrays.copyOf(distinct, size);
+        Arrays.sort(elements, Comparator.comparingInt(Object::hashCode));
+        return new CompactSet<>(elements);
+    }
+
+    /**
+     * Returns a set with the elements of this set and {@code element}.
+     * Returns this set if it already contains {@code element}.
+     */
+    public CompactSet<E> with(E element) {
+        requireNonNull(element);
+        if (contains(element)) {
+            return this;
+        }
+
+        int hash = element.hashCode();
+        int insertAt = 0;
+        while (insertAt < elements.length && elements[insertAt].hashCode() <= hash) {
+            insertAt++;
+        }
+        Object[] newElements = new Object[elements.length + 1];
+        System.arraycopy(elements, 0, newElements, 0, insertAt);
+        newElements[insertAt] = element;
+        System.arraycopy(elements, insertAt, newElements, insertAt + 1, elements.length - insertAt);
+        return new CompactSet<>(newElements);
+    }
+
+    /**
+     * Returns a set with the elements of this set other than {@code element}.
+     * Returns this set if it does not contain {@code element}.
+     */
+    public CompactSet<E> without(Object element) {
+        int index = indexOf(elements, elements.length, element);
+        if (index == -1) {
+            return this;
+        }
+        if (elements.length == 1) {
+            return of();
+        }
+
+        Object[] newElements = new Object[elements.length - 1];
+        System.arraycopy(elements, 0, newElements, 0, index);
+        System.arraycopy(elements, index + 1, newElements, index, elements.length - index - 1);
+        return new CompactSet<>(newElements);
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(elements, elements.length, o) != -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (next >= elements.length) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof CompactSet && ((CompactSet<?>) other).hashCode != hashCode) {
+            return false;
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Returns the index of {@code o} among the first {@code size} elements of {@code elements}, or -1 if absent.
+     */
+    private static int indexOf(Object[] elements, int size, Object o) {
+        if (o == null) {
+            return -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == o) {
+                return i;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (elements[i].equals(o)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
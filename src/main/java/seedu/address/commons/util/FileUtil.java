@@ -1,10 +1,19 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Writes and reads files
@@ -12,6 +21,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int STREAM_BUFFER_SIZE = 1 << 16;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -74,10 +85,79 @@ public class FileUtil {
 
     /**
      * Writes given string to a file.
-     * Will create the file if it does not exist yet.
+     * Will create the file if it does not exist yet. The file is replaced atomically, as by
+     * {@link #writeAtomically(Path, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Opens {@code file} for reading. If the file is gzip-compressed, as detected from its first bytes, the returned
+     * stream decompresses it as it is read. The caller must close the stream.
+     */
+    public static InputStream newDecompressingInputStream(Path file) throws IOException {
+        return decompressIfCompressed(Files.newInputStream(file));
+    }
+
+    /**
+     * Returns a stream that reads {@code in}, decompressing it if it starts with the gzip magic bytes.
+     * Closing the returned stream closes {@code in}.
+     */
+    public static InputStream decompressIfCompressed(InputStream in) throws IOException {
+        BufferedInputStream bufferedIn = new BufferedInputStream(in, STREAM_BUFFER_SIZE);
+        bufferedIn.mark(2);
+        int magic = bufferedIn.read() | (bufferedIn.read() << 8);
+        bufferedIn.reset();
+        return magic == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(bufferedIn, STREAM_BUFFER_SIZE) : bufferedIn;
+    }
+
+    /**
+     * Returns the sibling of {@code file} that new content goes to before it replaces {@code file}.
+     */
+    public static Path getTemporaryFile(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes the content produced by {@code writer} to {@code file}, so that the file ends up either with all of the
+     * new content or untouched, even if the application stops midway. The content is written to the temporary file
+     * of {@link #getTemporaryFile(Path)}, forced to the disk, and then moved over {@code file}.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        Path temporaryFile = getTemporaryFile(file);
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = Channels.newOutputStream(channel);
+            writer.writeTo(out);
+            out.flush();
+            channel.force(true);
+        }
+        moveAtomically(temporaryFile, file);
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically if the file system supports it.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -0,0 +1,72 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Canonicalizes immutable value objects that are created from a name, so that equal names share one instance.
+ * Instances are held weakly: once nothing else uses the instance for a name, such as a value parsed only for a
+ * query, it is dropped, and the next instance created for the name becomes the canonical one.
+ *
+ * @param <T> the type of the value objects.
+ */
+public class Interner<T> {
+
+    private final Map<String, NamedReference<T>> instances = new HashMap<>();
+    private final ReferenceQueue<T> collectedInstances = new ReferenceQueue<>();
+    private final Function<String, T> factory;
+
+    /**
+     * Creates an interner that creates the instance for a name it has not seen before with {@code factory}.
+     */
+    public Interner(Function<String, T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the canonical instance for {@code name}, creating it if there is none yet.
+     * Any exception thrown by the factory is propagated, and nothing is stored for {@code name}.
+     */
+    public synchronized T intern(String name) {
+        requireNonNull(name);
+        removeCollectedInstances();
+        NamedReference<T> reference = instances.get(name);
+        T instance = reference == null ? null : reference.get();
+        if (instance == null) {
+            instance = factory.apply(name);
+            instances.put(name, new NamedReference<>(name, instance, collectedInstances));
+        }
+        return instance;
+    }
+
+    /**
+     * Removes the names whose instances have been garbage collected.
+     */
+    private void removeCollectedInstances() {
+        Reference<? extends T> reference;
+        while ((reference = collectedInstances.poll()) != null) {
+            NamedReference<?> namedReference = (NamedReference<?>) reference;
+            // the name may have been given a new instance since
+            instances.remove(namedReference.name, namedReference);
+        }
+    }
+
+    /**
+     * A weak reference to the instance for {@code name}.
+     */
+    private static class NamedReference<T> extends WeakReference<T> {
+        private final String name;
+
+        NamedReference(String name, T instance, ReferenceQueue<T> queue) {
+            super(instance, queue);
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A multiset of strings that finds the strings starting with a prefix, ignoring case, in time that depends on the
+ * length of the prefix and the number of strings asked for, but not on the number of strings stored. It also finds
+ * the strings within a few typos of a string, by visiting only the branches that can still match.
+ * <p>
+ * Strings are stored under their case-folded form, as by {@link StringUtil#foldCase(String)}, and each keeps the
+ * casing it was first added with. Adding a string again only counts it, and it stays until it has been removed as
+ * many times. Children are kept sorted, so strings are returned in order of their case-folded forms.
+ */
+public class PrefixTrie {
+
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * Adds one occurrence of {@code string}.
+     */
+    public void add(String string) {
+        requireNonNull(string);
+        String key = StringUtil.foldCase(string);
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrAdd(key.charAt(i));
+        }
+        if (node.count++ == 0) {
+            node.value = string;
+            size++;
+        }
+    }
+
+    /**
+     * Removes one occurrence of {@code string}, if there is any.
+     */
+    public void remove(String string) {
+        requireNonNull(string);
+        if (root.remove(StringUtil.foldCase(string), 0)) {
+            size--;
+        }
+    }
+
+    /**
+     * Removes every string.
+     */
+    public void clear() {
+        root.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the number of distinct strings, ignoring case.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns up to {@code limit} of the distinct strings starting with {@code prefix}, ignoring case, in order.
+     */
+    public List<String> startingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> strings = new ArrayList<>();
+        Node node = find(StringUtil.foldCase(prefix));
+        if (node != null) {
+            node.collect(strings, limit);
+        }
+        return strings;
+    }
+
+    /**
+     * Applies {@code action} to each of the distinct strings starting with {@code prefix}, ignoring case, in order.
+     */
+    public void forEachStartingWith(String prefix, Consumer<String> action) {
+        requireAllNonNull(prefix, action);
+        Node node = find(StringUtil.foldCase(prefix));
+        if (node != null) {
+            node.forEach(action);
+        }
+    }
+
+    /**
+     * Applies {@code action} to each of the distinct strings that {@code string} can be turned into by at most
+     * {@code maxDistance} single-character insertions, deletions and substitutions, ignoring case, in order.
+     */
+    public void forEachWithin(String string, int maxDistance, Consumer<String> action) {
+        requireAllNonNull(string, action);
+        String key = StringUtil.foldCase(string);
+        int[] firstRow = new int[key.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+        root.forEachWithin(key, maxDistance, firstRow, action);
+    }
+
+    /**
+     * Returns the node reached by the characters of {@code key}, or null if no string starts with it.
+     */
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * A node of the trie, reached by the characters of a case-folded prefix.
+     */
+    private static class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private String value;
+        private int count;
+
+        private Node child(char label) {
+            int childIndex = Arrays.binarySearch(labels, label);
+            return childIndex < 0 ? null : children[childIndex];
+        }
+
+        private Node childOrAdd(char label) {
+            int childIndex = Arrays.binarySearch(labels, label);
+            if (childIndex >= 0) {
+                return children[childIndex];
+            }
+
+            int insertAt = -childIndex - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = new Node();
+            labels = newLabels;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+
+        /**
+         * Removes one occurrence of {@code key}, whose characters from {@code depth} on lead from this node to its
+         * end, along with the nodes that no longer lead to any string. Returns true if the last occurrence of
+         * {@code key} was removed.
+         */
+        private boolean remove(String key, int depth) {
+            if (depth == key.length()) {
+                if (count == 0) {
+                    return false;
+                }
+                if (--count == 0) {
+                    value = null;
+                    return true;
+                }
+                return false;
+            }
+
+            int childIndex = Arrays.binarySearch(labels, key.charAt(depth));
+            if (childIndex < 0) {
+                return false;
+            }
+            Node child = children[childIndex];
+            boolean isRemoved = child.remove(key, depth + 1);
+            if (child.count == 0 && child.children.length == 0) {
+                removeChild(childIndex);
+            }
+            return isRemoved;
+        }
+
+        private void removeChild(int childIndex) {
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, childIndex);
+            System.arraycopy(children, 0, newChildren, 0, childIndex);
+            System.arraycopy(labels, childIndex + 1, newLabels, childIndex, newLabels.length - childIndex);
+            System.arraycopy(children, childIndex + 1, newChildren, childIndex, newChildren.length - childIndex);
+            labels = newLabels.length == 0 ? NO_LABELS : newLabels;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        private void clear() {
+            labels = NO_LABELS;
+            children = NO_CHILDREN;
+            value = null;
+            count = 0;
+        }
+
+        /**
+         * Adds the strings at and below this node to {@code strings}, in order, until it holds {@code limit}.
+         */
+        private void collect(List<String> strings, int limit) {
+            if (strings.size() >= limit) {
+                return;
+            }
+            if (count > 0) {
+                strings.add(value);
+            }
+            for (int i = 0; i < children.length && strings.size() < limit; i++) {
+                children[i].collect(strings, limit);
+            }
+        }
+
+        private void forEach(Consumer<String> action) {
+            if (count > 0) {
+                action.accept(value);
+            }
+            for (Node child : children) {
+                child.forEach(action);
+            }
+        }
+
+        /**
+         * Applies {@code action} to the strings at and below this node within {@code maxDistance} edits of
+         * {@code key}. {@code row} holds the edit distances between the prefix leading to this node and each prefix
+         * of {@code key}; a branch is skipped once every entry of its row exceeds {@code maxDistance}.
+         */
+        private void forEachWithin(String key, int maxDistance, int[] row, Consumer<String> action) {
+            if (count > 0 && row[key.length()] <= maxDistance) {
+                action.accept(value);
+            }
+            for (int c = 0; c < children.length; c++) {
+                int[] childRow = new int[row.length];
+                childRow[0] = row[0] + 1;
+                int rowMinimum = childRow[0];
+                for (int i = 1; i < row.length; i++) {
+                    int substitution = row[i - 1] + (key.charAt(i - 1) == labels[c] ? 0 : 1);
+                    childRow[i] = Math.min(substitution, Math.min(row[i], childRow[i - 1]) + 1);
+                    rowMinimum = Math.min(rowMinimum, childRow[i]);
+                }
+                if (rowMinimum <= maxDistance) {
+                    children[c].forEachWithin(key, maxDistance, childRow, action);
+                }
+            }
+        }
+    }
+}
@@ -38,6 +38,102 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} with the case of every character folded, so that two strings are equal ignoring case, as by
+     * {@link String#equalsIgnoreCase(String)}, exactly when their folded forms are equal.
+     * Returns {@code s} itself if it is already folded.
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        int i = 0;
+        while (i < s.length() && foldCase(s.charAt(i)) == s.charAt(i)) {
+            i++;
+        }
+        if (i == s.length()) {
+            return s;
+        }
+
+        char[] folded = s.toCharArray();
+        for (; i < folded.length; i++) {
+            folded[i] = foldCase(folded[i]);
+        }
+        return new String(folded);
+    }
+
+    private static char foldCase(char c) {
+        // the same two steps that String#equalsIgnoreCase compares characters with
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Returns the words of {@code sentence}, which are separated by runs of whitespace, without using a regex.
+     * e.g. {@code splitWords(" ABc  def ")} returns {@code ["ABc", "def"]}.
+     */
+    public static String[] splitWords(String sentence) {
+        requireNonNull(sentence);
+        int wordCount = 0;
+        for (int i = 0; i < sentence.length(); i++) {
+            if (isWordStart(sentence, i)) {
+                wordCount++;
+            }
+        }
+
+        String[] words = new String[wordCount];
+        int wordIndex = 0;
+        for (int i = 0; i < sentence.length(); i++) {
+            if (isWordStart(sentence, i)) {
+                int end = i + 1;
+                while (end < sentence.length() && !Character.isWhitespace(sentence.charAt(end))) {
+                    end++;
+                }
+                words[wordIndex++] = sentence.substring(i, end);
+                i = end;
+            }
+        }
+        return words;
+    }
+
+    private static boolean isWordStart(String sentence, int index) {
+        return !Character.isWhitespace(sentence.charAt(index))
+                && (index == 0 || Character.isWhitespace(sentence.charAt(index - 1)));
+    }
+
+    /**
+     * Returns true if {@code s} can be turned into {@code t} by at most {@code maxDistance} single-character
+     * insertions, deletions and substitutions, i.e. their Levenshtein distance is at most {@code maxDistance}.
+     * Stops as soon as every alignment of the strings needs more edits than that.
+     * e.g. {@code isWithinEditDistance("jonh", "john", 2)} returns true.
+     */
+    public static boolean isWithinEditDistance(String s, String t, int maxDistance) {
+        requireNonNull(s);
+        requireNonNull(t);
+        if (Math.abs(s.length() - t.length()) > maxDistance) {
+            return false;
+        }
+
+        int[] previous = new int[t.length() + 1];
+        int[] current = new int[t.length() + 1];
+        for (int j = 0; j <= t.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= s.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= t.length(); j++) {
+                int substitution = previous[j - 1] + (s.charAt(i - 1) == t.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[t.length()] <= maxDistance;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,150 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves the address book to storage in the background, so commands do not wait for the disk.
+ * <p>
+ * Only the latest requested snapshot matters: snapshots requested while a save is in progress replace each other,
+ * and are written as one save once it completes. A failed save is reported to the failure handler with a message
+ * fit for the user. Each snapshot is requested along with the version of the address book it was taken from, and the
+ * saver remembers the last version it wrote, so a version whose save failed is still found to need saving.
+ */
+public class AddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    // the version of no address book, so that every version needs saving until one is saved
+    private static final long NO_VERSION = -1;
+
+    private final Storage storage;
+    private final Executor executor;
+    private final Consumer<String> failureHandler;
+
+    private ReadOnlyAddressBook pendingSnapshot;
+    private long pendingVersion = NO_VERSION;
+    private long savingVersion = NO_VERSION;
+    private long savedVersion = NO_VERSION;
+    private boolean isSaveScheduled;
+
+    /**
+     * Creates an {@code AddressBookSaver} that saves to {@code storage} on {@code executor}, and reports failed
+     * saves to {@code failureHandler}.
+     */
+    public AddressBookSaver(Storage storage, Executor executor, Consumer<String> failureHandler) {
+        requireAllNonNull(storage, executor, failureHandler);
+        this.storage = storage;
+        this.executor = executor;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Returns an executor that runs saves one at a time on a background daemon thread.
+     */
+    public static ExecutorService createBackgroundExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns true unless {@code version} of the address book has been written by the last successful save, or is
+     * being saved, or is waiting to be saved.
+     */
+    public synchronized boolean isSaveNeeded(long version) {
+        return version != savedVersion && version != savingVersion
+                && !(pendingSnapshot != null && version == pendingVersion);
+    }
+
+    /**
+     * Requests that {@code snapshot}, taken from {@code version} of the address book, be saved, replacing any
+     * snapshot that is still waiting to be saved. {@code snapshot} must not change afterwards.
+     */
+    public synchronized void requestSave(ReadOnlyAddressBook snapshot, long version) {
+        pendingSnapshot = snapshot;
+        pendingVersion = version;
+        if (!isSaveScheduled) {
+            isSaveScheduled = true;
+            executor.execute(this::savePendingSnapshots);
+        }
+    }
+
+    /**
+     * Waits until every requested snapshot has been saved, or has failed to save.
+     */
+    public synchronized void flush() {
+        boolean isInterrupted = false;
+        while (isSaveScheduled) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Saves pending snapshots until there are none left.
+     */
+    private void savePendingSnapshots() {
+        while (true) {
+            ReadOnlyAddressBook snapshot;
+            synchronized (this) {
+                snapshot = pendingSnapshot;
+                pendingSnapshot = null;
+                savingVersion = pendingVersion;
+                if (snapshot == null) {
+                    savingVersion = NO_VERSION;
+                    isSaveScheduled = false;
+                    notifyAll();
+                    return;
+                }
+            }
+            boolean isSaved = save(snapshot);
+            synchronized (this) {
+                if (isSaved) {
+                    savedVersion = savingVersion;
+                }
+                savingVersion = NO_VERSION;
+            }
+        }
+    }
+
+    /**
+     * Saves {@code snapshot}, and returns true if it was saved.
+     */
+    private boolean save(ReadOnlyAddressBook snapshot) {
+        try {
+            storage.saveAddressBook(snapshot);
+            return true;
+        } catch (AccessDeniedException e) {
+            reportFailure(String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
+        } catch (IOException | RuntimeException e) {
+            // a failed save must not stop later saves, so unexpected errors are reported the same way
+            reportFailure(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, e.getMessage()));
+        }
+        return false;
+    }
+
+    private void reportFailure(String message) {
+        logger.warning(message);
+        failureHandler.accept(message);
+    }
+}
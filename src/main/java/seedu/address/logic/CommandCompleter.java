@@ -0,0 +1,224 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INJURY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH_MODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PLAYER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddTeamCommand;
+import seedu.address.logic.commands.AssignCaptainCommand;
+import seedu.address.logic.commands.AssignInjuryCommand;
+import seedu.address.logic.commands.AssignPositionCommand;
+import seedu.address.logic.commands.AssignTeamCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCaptainCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListInjuredCommand;
+import seedu.address.logic.commands.ListPositionCommand;
+import seedu.address.logic.commands.ListTeamCommand;
+import seedu.address.logic.commands.NewPositionCommand;
+import seedu.address.logic.commands.UnassignCaptainCommand;
+import seedu.address.logic.commands.UnassignInjuryCommand;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.CompletionField;
+import seedu.address.model.Model;
+
+/**
+ * Completes partly typed commands: the command word, the prefixes that the command takes, and the names of the
+ * persons, teams, positions and injuries in the model after the prefixes that take them.
+ * <p>
+ * Names are looked up in tries kept by the model, so a completion takes time in proportion to the length of the text
+ * and the number of completions, however large the roster is. Each completion is timed, and logged as a warning if
+ * it takes longer than {@link #SLOW_COMPLETION_NANOS}, since it runs on the UI thread as the user types.
+ */
+public class CommandCompleter {
+
+    /** The most completions returned for one text. */
+    public static final int MAX_COMPLETIONS = 20;
+
+    static final long SLOW_COMPLETION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final Map<String, List<Prefix>> PREFIXES_BY_COMMAND_WORD = createPrefixesByCommandWord();
+    private static final Map<Prefix, CompletionField> FIELDS_BY_PREFIX = Map.of(
+            PREFIX_PLAYER, CompletionField.PERSON,
+            PREFIX_TEAM, CompletionField.TEAM,
+            PREFIX_POSITION, CompletionField.POSITION,
+            PREFIX_INJURY, CompletionField.INJURY);
+
+    private final Logger logger = LogsCenter.getLogger(CommandCompleter.class);
+
+    private final Model model;
+
+    /**
+     * Creates a {@code CommandCompleter} that completes names from {@code model}, whose index of names is built
+     * now, at startup, rather than on the first completion.
+     */
+    public CommandCompleter(Model model) {
+        requireNonNull(model);
+        this.model = model;
+        model.getCompletions(CompletionField.PERSON, "", 0);
+    }
+
+    /**
+     * Returns the ways in which {@code commandText} can be completed, each being the whole completed text, or an
+     * empty list if there are none. What is completed is the last part of the text: the command word if the text
+     * has no other, otherwise the name after the last prefix if it starts any names, otherwise the last word if it
+     * starts any of the prefixes of the command.
+     */
+    public List<String> complete(String commandText) {
+        requireNonNull(commandText);
+        long startTime = System.nanoTime();
+        List<String> completions = findCompletions(commandText);
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        String timing = String.format("Completed \"%s\" in %d us with %d completions", commandText,
+                TimeUnit.NANOSECONDS.toMicros(elapsedNanos), completions.size());
+        if (elapsedNanos > SLOW_COMPLETION_NANOS) {
+            logger.warning(timing);
+        } else {
+            logger.fine(timing);
+        }
+        return completions;
+    }
+
+    private List<String> findCompletions(String commandText) {
+        int commandWordEnd = indexOfWhitespace(commandText);
+        if (commandWordEnd == -1) {
+            return completeCommandWord(commandText);
+        }
+
+        List<Prefix> prefixes = PREFIXES_BY_COMMAND_WORD.get(commandText.substring(0, commandWordEnd));
+        if (prefixes == null) {
+            return Collections.emptyList();
+        }
+        List<String> nameCompletions = completeName(commandText, prefixes);
+        if (!nameCompletions.isEmpty()) {
+            return nameCompletions;
+        }
+        return completePrefix(commandText, prefixes);
+    }
+
+    private List<String> completeCommandWord(String partialCommandWord) {
+        List<String> completions = new ArrayList<>();
+        for (String commandWord : PREFIXES_BY_COMMAND_WORD.keySet()) {
+            if (commandWord.startsWith(partialCommandWord)) {
+                completions.add(commandWord + " ");
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Completes the text after the last of {@code prefixes} in {@code commandText} with the names that it starts.
+     */
+    private List<String> completeName(String commandText, List<Prefix> prefixes) {
+        Prefix lastPrefix = null;
+        int lastPrefixStart = -1;
+        for (Prefix prefix : prefixes) {
+            int prefixStart = commandText.lastIndexOf(" " + prefix.getPrefix());
+            if (prefixStart > lastPrefixStart) {
+                lastPrefix = prefix;
+                lastPrefixStart = prefixStart;
+            }
+        }
+        if (lastPrefix == null || !FIELDS_BY_PREFIX.containsKey(lastPrefix)) {
+            return Collections.emptyList();
+        }
+        CompletionField field = FIELDS_BY_PREFIX.get(lastPrefix);
+
+        int valueStart = lastPrefixStart + 1 + lastPrefix.getPrefix().length();
+        String textBeforeValue = commandText.substring(0, valueStart);
+        List<String> completions = new ArrayList<>();
+        for (String name : model.getCompletions(field, commandText.substring(valueStart), MAX_COMPLETIONS)) {
+            completions.add(textBeforeValue + name + " ");
+        }
+        return completions;
+    }
+
+    /**
+     * Completes the last word of {@code commandText} with the prefixes in {@code prefixes} that it starts.
+     */
+    private List<String> completePrefix(String commandText, List<Prefix> prefixes) {
+        int wordStart = commandText.length();
+        while (wordStart > 0 && !Character.isWhitespace(commandText.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        String partialPrefix = commandText.substring(wordStart);
+        if (partialPrefix.indexOf('/') != -1) {
+            // the word is a prefix already, or a value typed right after one
+            return Collections.emptyList();
+        }
+        String textBeforeWord = commandText.substring(0, wordStart);
+
+        List<String> completions = new ArrayList<>();
+        for (Prefix prefix : prefixes) {
+            if (prefix.getPrefix().startsWith(partialPrefix)) {
+                completions.add(textBeforeWord + prefix.getPrefix());
+            }
+        }
+        return completions;
+    }
+
+    private static int indexOfWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the prefixes that each command takes, in the order they are usually typed, keyed by command words in
+     * alphabetical order.
+     */
+    private static Map<String, List<Prefix>> createPrefixesByCommandWord() {
+        Map<String, List<Prefix>> prefixesByCommandWord = new HashMap<>();
+        prefixesByCommandWord.put(AddCommand.COMMAND_WORD, List.of(PREFIX_PLAYER, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_ADDRESS, PREFIX_TEAM, PREFIX_TAG));
+        prefixesByCommandWord.put(EditCommand.COMMAND_WORD, List.of(PREFIX_PLAYER, PREFIX_NAME, PREFIX_PHONE,
+                PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG));
+        prefixesByCommandWord.put(DeleteCommand.COMMAND_WORD, List.of(PREFIX_PLAYER, PREFIX_TEAM, PREFIX_POSITION));
+        prefixesByCommandWord.put(FindCommand.COMMAND_WORD, List.of(PREFIX_MATCH_MODE));
+        prefixesByCommandWord.put(FilterCommand.COMMAND_WORD, List.of(PREFIX_TEAM, PREFIX_INJURY, PREFIX_POSITION));
+        prefixesByCommandWord.put(AddTeamCommand.COMMAND_WORD, List.of(PREFIX_TEAM));
+        prefixesByCommandWord.put(AssignTeamCommand.COMMAND_WORD, List.of(PREFIX_PLAYER, PREFIX_TEAM));
+        prefixesByCommandWord.put(NewPositionCommand.COMMAND_WORD, List.of(PREFIX_POSITION));
+        prefixesByCommandWord.put(AssignPositionCommand.COMMAND_WORD, List.of(PREFIX_PLAYER, PREFIX_POSITION));
+        prefixesByCommandWord.put(AssignInjuryCommand.COMMAND_WORD, List.of(PREFIX_PLAYER, PREFIX_INJURY));
+        prefixesByCommandWord.put(UnassignInjuryCommand.COMMAND_WORD, List.of(PREFIX_PLAYER, PREFIX_INJURY));
+        prefixesByCommandWord.put(AssignCaptainCommand.COMMAND_WORD, List.of(PREFIX_PLAYER));
+        prefixesByCommandWord.put(UnassignCaptainCommand.COMMAND_WORD, List.of(PREFIX_PLAYER));
+        for (String commandWord : List.of(ClearCommand.COMMAND_WORD, ListCommand.COMMAND_WORD,
+                ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, ListTeamCommand.COMMAND_WORD,
+                ListCaptainCommand.COMMAND_WORD, ListPositionCommand.COMMAND_WORD,
+                ListInjuredCommand.COMMAND_WORD)) {
+            prefixesByCommandWord.put(commandWord, List.of());
+        }
+        return Collections.unmodifiableMap(new TreeMap<>(prefixesByCommandWord));
+    }
+}
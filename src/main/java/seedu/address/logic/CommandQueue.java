@@ -0,0 +1,310 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.Team;
+
+/**
+ * Executes commands one at a time on a worker thread, so that parsing them, changing the model and requesting saves
+ * do not hold up the UI thread.
+ * <p>
+ * Commands are executed in the order they are submitted, and their results are handed to the UI executor in the
+ * same order. The UI must not read the model's lists while the worker changes them, so it is given copies instead,
+ * which are updated on the UI executor before each result is handed over. After each command, the worker compares
+ * the model's lists with the copies it last took, a reference at a time, and only the range of elements between the
+ * first and the last difference is replaced in the UI's copies, so editing one person replaces one row and keeps the
+ * selection of the others. When commands complete faster than the UI executor runs, their changes are merged and
+ * published as one.
+ */
+public class CommandQueue {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandQueue.class);
+
+    private final Logic logic;
+    private final Executor commandExecutor;
+    private final Executor uiExecutor;
+
+    private final ListPublisher<Person> personPublisher;
+    private final ListPublisher<Team> teamPublisher;
+    private final ListPublisher<Position> positionPublisher;
+
+    private int unfinishedCommandCount;
+
+    /**
+     * Creates a {@code CommandQueue} that executes commands with {@code logic} on {@code commandExecutor}, which
+     * must run its tasks one at a time in order, and publishes lists and results on {@code uiExecutor}.
+     */
+    public CommandQueue(Logic logic, Executor commandExecutor, Executor uiExecutor) {
+        requireAllNonNull(logic, commandExecutor, uiExecutor);
+        this.logic = logic;
+        this.commandExecutor = commandExecutor;
+        this.uiExecutor = uiExecutor;
+
+        personPublisher = new ListPublisher<>(logic.getFilteredPersonList());
+        teamPublisher = new ListPublisher<>(logic.getFilteredTeamList());
+        positionPublisher = new ListPublisher<>(logic.getFilteredPositionList());
+    }
+
+    /**
+     * Returns an executor that runs commands one at a time on a background daemon thread.
+     */
+    public static ExecutorService createBackgroundExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits {@code commandText} to be executed after every command submitted before it. Its result is then given
+     * to {@code resultHandler} on the UI executor, or, if it fails, its {@code CommandException} or
+     * {@code ParseException} is given to {@code failureHandler}. Any other exception is given to
+     * {@code failureHandler} as well, and any other error wrapped in an {@code ExecutionException}.
+     *
+     * @see Logic#execute(String)
+     */
+    public void submit(String commandText, Consumer<CommandResult> resultHandler, Consumer<Exception> failureHandler) {
+        requireAllNonNull(commandText, resultHandler, failureHandler);
+        synchronized (this) {
+            unfinishedCommandCount++;
+        }
+        commandExecutor.execute(() -> execute(commandText, resultHandler, failureHandler));
+    }
+
+    /**
+     * Submits {@code guiSettings} to be set in {@code logic} on the worker after every command submitted before it,
+     * so the model is not changed while a command runs. It counts as a command until it has been set.
+     */
+    public void submitGuiSettings(GuiSettings guiSettings) {
+        requireNonNull(guiSettings);
+        synchronized (this) {
+            unfinishedCommandCount++;
+        }
+        commandExecutor.execute(() -> {
+            try {
+                logic.setGuiSettings(guiSettings);
+            } finally {
+                finishCommand();
+            }
+        });
+    }
+
+    /**
+     * Waits until every submitted command has been executed and its outcome passed to the UI executor.
+     */
+    public synchronized void flush() {
+        boolean isInterrupted = false;
+        while (unfinishedCommandCount > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Returns an unmodifiable copy of the filtered list of persons, updated on the UI executor */
+    public ObservableList<Person> getPersonList() {
+        return personPublisher.unmodifiablePublishedList;
+    }
+
+    /** Returns an unmodifiable copy of the filtered list of teams, updated on the UI executor */
+    public ObservableList<Team> getTeamList() {
+        return teamPublisher.unmodifiablePublishedList;
+    }
+
+    /** Returns an unmodifiable copy of the filtered list of positions, updated on the UI executor */
+    public ObservableList<Position> getPositionList() {
+        return positionPublisher.unmodifiablePublishedList;
+    }
+
+    /**
+     * Executes {@code commandText} on the worker, and schedules the publishing of the lists it leaves and the
+     * handing over of its outcome on the UI executor. An outcome is handed over however the command ends, and the
+     * command counts as unfinished until it has been scheduled.
+     */
+    private void execute(String commandText, Consumer<CommandResult> resultHandler,
+                         Consumer<Exception> failureHandler) {
+        try {
+            Runnable outcome;
+            try {
+                CommandResult result = logic.execute(commandText);
+                outcome = () -> resultHandler.accept(result);
+            } catch (CommandException | ParseException e) {
+                outcome = () -> failureHandler.accept(e);
+            } catch (Throwable e) {
+                // the worker must carry on with later commands, so unexpected errors are reported as failures too
+                logger.severe(StringUtil.getDetails(e));
+                Exception failure = e instanceof Exception ? (Exception) e : new ExecutionException(e);
+                outcome = () -> failureHandler.accept(failure);
+            }
+
+            try {
+                takeChanges();
+            } catch (Throwable e) {
+                // the UI keeps the lists it last published, and the outcome is still handed over
+                logger.severe(StringUtil.getDetails(e));
+            }
+
+            Runnable finalOutcome = outcome;
+            uiExecutor.execute(() -> {
+                try {
+                    publishPendingChanges();
+                } finally {
+                    finalOutcome.run();
+                }
+            });
+        } finally {
+            finishCommand();
+        }
+    }
+
+    private synchronized void finishCommand() {
+        unfinishedCommandCount--;
+        notifyAll();
+    }
+
+    /**
+     * Takes the changes of the model's lists since they were last taken, for the UI executor to publish.
+     */
+    private void takeChanges() {
+        personPublisher.takeChange();
+        teamPublisher.takeChange();
+        positionPublisher.takeChange();
+    }
+
+    /**
+     * Publishes the changes taken by the worker that have not been published yet.
+     */
+    private void publishPendingChanges() {
+        personPublisher.publishPendingChange();
+        teamPublisher.publishPendingChange();
+        positionPublisher.publishPendingChange();
+    }
+
+    /**
+     * Keeps a copy of a list of the model, which is read on the UI executor, up to date with the changes that
+     * commands make to the list on the worker.
+     */
+    private static class ListPublisher<T> {
+        private final List<T> sourceList;
+        // the list as last taken by the worker, which only the worker reads
+        private final List<T> takenList;
+        private final ObservableList<T> publishedList;
+        private final ObservableList<T> unmodifiablePublishedList;
+        // the change from the published list to the taken list, if it has not been published yet
+        private ListChange<T> pendingChange;
+
+        ListPublisher(List<T> sourceList) {
+            this.sourceList = sourceList;
+            takenList = new ArrayList<>(sourceList);
+            publishedList = FXCollections.observableArrayList(sourceList);
+            unmodifiablePublishedList = FXCollections.unmodifiableObservableList(publishedList);
+        }
+
+        /**
+         * Records the range of the source list that differs from the taken list, on the worker.
+         */
+        void takeChange() {
+            int oldSize = takenList.size();
+            int newSize = sourceList.size();
+            int start = 0;
+            while (start < oldSize && start < newSize && takenList.get(start) == sourceList.get(start)) {
+                start++;
+            }
+            int oldEnd = oldSize;
+            int newEnd = newSize;
+            while (oldEnd > start && newEnd > start && takenList.get(oldEnd - 1) == sourceList.get(newEnd - 1)) {
+                oldEnd--;
+                newEnd--;
+            }
+            if (start == oldEnd && start == newEnd) {
+                return;
+            }
+
+            ListChange<T> change = new ListChange<>(start, oldEnd - start,
+                    new ArrayList<>(sourceList.subList(start, newEnd)));
+            takenList.subList(start, oldEnd).clear();
+            takenList.addAll(start, change.addedElements);
+            synchronized (this) {
+                pendingChange = pendingChange == null ? change : merge(pendingChange, change);
+            }
+        }
+
+        /**
+         * Returns one change with the effect of {@code first} followed by {@code second}, whose result is the taken
+         * list. Both changes are merged into a single range of the list before {@code first}.
+         */
+        private ListChange<T> merge(ListChange<T> first, ListChange<T> second) {
+            int start = Math.min(first.from, second.from);
+            // the end of the range in the list between the two changes
+            int end = Math.max(first.from + first.addedElements.size(), second.from + second.removedCount);
+            int removedCount = end - first.addedElements.size() + first.removedCount - start;
+            int addedEnd = end - second.removedCount + second.addedElements.size();
+            return new ListChange<>(start, removedCount, new ArrayList<>(takenList.subList(start, addedEnd)));
+        }
+
+        /**
+         * Applies the change taken by the worker to the published list, if it has not been applied yet.
+         */
+        void publishPendingChange() {
+            ListChange<T> change;
+            synchronized (this) {
+                change = pendingChange;
+                pendingChange = null;
+            }
+            if (change == null) {
+                return;
+            }
+
+            if (change.removedCount == publishedList.size()) {
+                publishedList.setAll(change.addedElements);
+            } else if (change.removedCount == 1 && change.addedElements.size() == 1) {
+                publishedList.set(change.from, change.addedElements.get(0));
+            } else {
+                publishedList.remove(change.from, change.from + change.removedCount);
+                publishedList.addAll(change.from, change.addedElements);
+            }
+        }
+    }
+
+    /**
+     * A replacement of {@code removedCount} elements of a list, starting at {@code from}, with
+     * {@code addedElements}. The added elements must not change.
+     */
+    private static class ListChange<T> {
+        private final int from;
+        private final int removedCount;
+        private final List<T> addedElements;
+
+        ListChange(int from, int removedCount, List<T> addedElements) {
+            this.from = from;
+            this.removedCount = removedCount;
+            this.addedElements = addedElements;
+        }
+    }
+}
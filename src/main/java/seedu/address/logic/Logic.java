@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -25,6 +27,27 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the ways in which the partly typed {@code commandText} can be completed, each being the whole
+     * completed text, or an empty list if there are none.
+     *
+     * @see CommandCompleter#complete(String)
+     */
+    List<String> completeCommand(String commandText);
+
+    /**
+     * Waits for the saves of the address book requested by earlier commands to complete, and saves it once more
+     * if the last of them failed.
+     */
+    void flushSaves();
+
+    /**
+     * Sets the handler that is given a message fit for the user whenever a save of the address book fails.
+     * Saves run in the background, so the handler is called on the thread that saved, after the command that
+     * requested the save has completed.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the AddressBook.
      *
@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
-import java.io.IOException;
-import java.nio.file.AccessDeniedException;
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,6 +16,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -22,6 +26,9 @@ import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * The address book is saved after every command by an {@link AddressBookSaver}, in the background unless another
+ * executor is given. Commands that leave the address book unchanged do not save it again. A failed save is reported
+ * to the save failure handler, not by any command, as the command that requested it has already taken effect.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -32,16 +39,30 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AddressBookSaver addressBookSaver;
+    private final CommandCompleter commandCompleter;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+    private boolean hasRequestedSave;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address
+     * book on a background thread.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, AddressBookSaver.createBackgroundExecutor());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address
+     * book on {@code saveExecutor}.
+     */
+    public LogicManager(Model model, Storage storage, Executor saveExecutor) {
         this.model = model;
-        this.storage = storage;
         addressBookParser = new AddressBookParser();
+        addressBookSaver = new AddressBookSaver(storage, saveExecutor,
+                message -> saveFailureHandler.accept(message));
+        commandCompleter = new CommandCompleter(model);
     }
 
     @Override
@@ -52,15 +73,42 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        requestSaveIfNeeded();
+        return commandResult;
+    }
+
+    /**
+     * Requests a save of the address book unless its current version has been saved or is about to be. The first
+     * command always saves, which creates the data file if the app started without one, and a version whose save
+     * failed is saved again by the next command, even one that changes nothing.
+     */
+    private void requestSaveIfNeeded() {
+        long addressBookVersion = model.getAddressBookVersion();
+        if (addressBookSaver.isSaveNeeded(addressBookVersion)) {
+            addressBookSaver.requestSave(new AddressBookSnapshot(model.getAddressBook()), addressBookVersion);
+            hasRequestedSave = true;
+        }
+    }
+
+    @Override
+    public List<String> completeCommand(String commandText) {
+        return commandCompleter.complete(commandText);
+    }
+
+    @Override
+    public void flushSaves() {
+        addressBookSaver.flush();
+        if (hasRequestedSave) {
+            // retries the last save if it failed, as the changes would otherwise be lost
+            requestSaveIfNeeded();
+            addressBookSaver.flush();
         }
+    }
 
-        return commandResult;
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
     }
 
     @Override
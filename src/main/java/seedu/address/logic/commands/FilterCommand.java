@@ -76,8 +76,7 @@ public class FilterCommand extends Command {
         validateTeamIfPresent(model);
         validatePositionIfPresent(model);
 
-        model.updateFilteredPersonList(person ->
-            teamPredicate.test(person) && injuryPredicate.test(person) && positionPredicate.test(person));
+        model.updateFilteredPersonList(model.selectPersons(teamPredicate, injuryPredicate, positionPredicate));
 
         int filteredSize = model.getFilteredPersonList().size();
         logger.log(Level.INFO, "Filtered {0} players matching criteria", filteredSize);
@@ -109,7 +108,7 @@ public class FilterCommand extends Command {
      */
     private void validatePositionIfPresent(Model model) throws CommandException {
         if (positionArg.isPresent()) {
-            Position positionToCheck = new Position(positionArg.get());
+            Position positionToCheck = Position.of(positionArg.get());
             if (!model.hasPosition(positionToCheck)) {
                 throw new CommandException(String.format(Messages.MESSAGE_INVALID_POSITION, positionToCheck.getName()));
             }
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH_MODE;
 
 import java.util.List;
 import java.util.logging.Logger;
@@ -14,7 +15,7 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in PlayBook whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive, and matches whole words, word prefixes or words with typos.
  */
 public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
@@ -22,8 +23,13 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all players whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Duplicate keywords are not allowed when using the command.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Parameters: [" + PREFIX_MATCH_MODE + "word|prefix|fuzzy] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_MATCH_MODE + "prefix ali bo\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_MATCH_MODE + "fuzzy alcie";
+
+    public static final String MESSAGE_INVALID_MATCH_MODE =
+            "Match mode should be one of word, prefix or fuzzy, e.g. " + PREFIX_MATCH_MODE + "prefix";
 
     private static final Logger logger = LogsCenter.getLogger(FindCommand.class);
 
@@ -42,7 +48,7 @@ public class FindCommand extends Command {
         // Assert model state
         assert model.getAddressBook() != null : "Model should have address book";
 
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(model.selectPersonsByName(predicate));
 
         int foundCount = model.getFilteredPersonList().size();
         logger.info("Found " + foundCount + " players matching search criteria");
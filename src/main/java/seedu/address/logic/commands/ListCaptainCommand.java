@@ -1,7 +1,6 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_CAPTAINS;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -40,7 +39,7 @@ public class ListCaptainCommand extends Command {
         // Assert model state
         assert model.getAddressBook() != null : "Model should have address book";
 
-        model.updateFilteredPersonList(PREDICATE_SHOW_CAPTAINS);
+        model.updateFilteredPersonList(model.selectCaptains());
 
         int listSize = model.getFilteredPersonList().size();
         logger.log(Level.INFO, "Found {0} items in list", listSize);
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_POSITIONS;
 
+import java.util.StringJoiner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -10,15 +11,20 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.position.Position;
 
 /**
- * Lists all positions in the PlayBook to the user.
+ * Lists all positions in the PlayBook to the user, along with the number of players in each.
  */
 public class ListPositionCommand extends Command {
     public static final String COMMAND_WORD = "listposition";
 
     public static final String MESSAGE_SUCCESS = "Listed all positions";
 
+    public static final String MESSAGE_PLAYERS_PER_POSITION = "Players per position: %1$s";
+
+    public static final String MESSAGE_POSITION_PLAYER_COUNT = "%1$s (%2$d)";
+
     private static final Logger logger = LogsCenter.getLogger(ListPositionCommand.class);
 
     @Override
@@ -40,7 +46,15 @@ public class ListPositionCommand extends Command {
             throw new CommandException(Messages.MESSAGE_NO_POSITIONS);
         }
 
+        // the counts are kept up to date by the address book, so this takes no pass over the players
+        StringJoiner playerCounts = new StringJoiner(", ");
+        for (Position position : model.getFilteredPositionList()) {
+            playerCounts.add(String.format(MESSAGE_POSITION_PLAYER_COUNT, position.getName(),
+                    model.getPositionPlayerCount(position)));
+        }
+
         logger.log(Level.INFO, "{0} command completed successfully", COMMAND_WORD);
-        return CommandResult.showPositionCommandResult(MESSAGE_SUCCESS);
+        return CommandResult.showPositionCommandResult(MESSAGE_SUCCESS + "\n"
+                + String.format(MESSAGE_PLAYERS_PER_POSITION, playerCounts));
     }
 }
@@ -15,5 +15,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_TEAM = new Prefix("tm/");
     public static final Prefix PREFIX_PLAYER = new Prefix("pl/");
     public static final Prefix PREFIX_POSITION = new Prefix("ps/");
+    public static final Prefix PREFIX_MATCH_MODE = new Prefix("m/");
 
 }
@@ -1,11 +1,13 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH_MODE;
 
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -14,6 +16,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameMatchMode;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -29,14 +32,42 @@ public class FindCommandParser implements Parser<FindCommand> {
     public FindCommand parse(String args) throws ParseException {
         logger.info("Parsing find command arguments: " + args);
 
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MATCH_MODE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MATCH_MODE);
+
+        // the keywords may come before the match mode, after it, or both
+        String keywordArgs = argMultimap.getPreamble();
+        NameMatchMode matchMode = NameMatchMode.WORD;
+        Optional<String> modeArgs = argMultimap.getValue(PREFIX_MATCH_MODE);
+        if (modeArgs.isPresent()) {
+            String[] modeAndKeywords = modeArgs.get().split("\\s+", 2);
+            matchMode = parseMatchMode(modeAndKeywords[0]);
+            if (modeAndKeywords.length > 1) {
+                keywordArgs = keywordArgs + " " + modeAndKeywords[1];
+            }
+        }
+
+        String trimmedArgs = keywordArgs.trim();
         validateArgumentsNotEmpty(trimmedArgs);
 
         String[] nameKeywords = splitKeywords(trimmedArgs);
         validateNoDuplicateKeywords(nameKeywords);
 
         logParsingSuccess(nameKeywords);
-        return createFindCommand(nameKeywords);
+        return createFindCommand(nameKeywords, matchMode);
+    }
+
+    /**
+     * Parses the name of a match mode, ignoring case.
+     */
+    private NameMatchMode parseMatchMode(String modeName) throws ParseException {
+        for (NameMatchMode matchMode : NameMatchMode.values()) {
+            if (matchMode.name().equalsIgnoreCase(modeName)) {
+                return matchMode;
+            }
+        }
+        logger.warning("Invalid match mode provided to find command: " + modeName);
+        throw new ParseException(FindCommand.MESSAGE_INVALID_MATCH_MODE);
     }
 
     /**
@@ -133,7 +164,7 @@ public class FindCommandParser implements Parser<FindCommand> {
     /**
      * Creates a new FindCommand with the parsed keywords.
      */
-    private FindCommand createFindCommand(String[] nameKeywords) {
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    private FindCommand createFindCommand(String[] nameKeywords, NameMatchMode matchMode) {
+        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords), matchMode));
     }
 }
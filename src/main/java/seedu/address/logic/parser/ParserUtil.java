@@ -99,7 +99,7 @@ public class ParserUtil {
             throw new ParseException(String.format("Invalid injury: %s\n%s",
                     trimmedInjuryName, Injury.MESSAGE_CONSTRAINTS));
         }
-        return new Injury(trimmedInjuryName);
+        return Injury.of(trimmedInjuryName);
     }
 
     /**
@@ -115,7 +115,7 @@ public class ParserUtil {
             throw new ParseException(String.format("Invalid team name: %s\n%s",
                     trimmedTeam, Team.MESSAGE_CONSTRAINTS));
         }
-        return new Team(trimmedTeam);
+        return Team.of(trimmedTeam);
     }
 
     /**
@@ -131,7 +131,7 @@ public class ParserUtil {
             throw new ParseException(String.format("Invalid position name: %s\n%s",
                     trimmedPosition, Position.MESSAGE_CONSTRAINTS));
         }
-        return new Position(trimmedPosition);
+        return Position.of(trimmedPosition);
     }
 
     /**
@@ -147,7 +147,7 @@ public class ParserUtil {
             throw new ParseException(String.format("Invalid tag name: %s\n%s",
                     trimmedTag, Tag.MESSAGE_CONSTRAINTS));
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
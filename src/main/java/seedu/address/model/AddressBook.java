@@ -1,17 +1,29 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.FilterByInjuryPredicate;
+import seedu.address.model.person.FilterInjuredPredicate;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.position.FilterByPositionPredicate;
 import seedu.address.model.position.Position;
 import seedu.address.model.position.UniquePositionList;
+import seedu.address.model.team.FilterByTeamPredicate;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.UniqueTeamList;
 import seedu.address.model.team.exceptions.TeamNotEmptyException;
@@ -19,12 +31,21 @@ import seedu.address.model.team.exceptions.TeamNotEmptyException;
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * The members of each team and the number of players in each position are additionally tracked as persons change,
+ * so team-scoped and position-scoped queries do not scan every person.
+ * The names used to complete commands are indexed as well, once they are first asked for, so that copies of the
+ * address book that are never used for completion do not pay for the index.
+ * A version number is bumped by every change, so callers can tell whether the data changed without comparing it.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueTeamList teams;
     private final UniquePositionList positions;
+    private final Map<Team, Set<Person>> membersByTeam = new HashMap<>();
+    private final Map<Position, Integer> playerCountByPosition = new HashMap<>();
+    private CompletionIndex completionIndex;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -58,6 +79,27 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+
+        membersByTeam.clear();
+        playerCountByPosition.clear();
+        completionIndex = null;
+        for (Person person : this.persons) {
+            indexPerson(person);
+        }
+        version++;
+    }
+
+    /**
+     * Replaces the persons, teams and positions of this {@code AddressBook} in bulk.
+     * None of the lists may contain duplicates. Each list is validated in a single pass and installed as a whole,
+     * which is much cheaper than adding the entries one by one.
+     */
+    public void setData(List<Person> persons, List<Team> teams, List<Position> positions) {
+        requireAllNonNull(persons, teams, positions);
+
+        setPersons(persons);
+        setTeams(teams);
+        setPositions(positions);
     }
 
     /**
@@ -66,9 +108,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setTeams(newData.getTeamList());
-        setPositions(newData.getPositionList());
+        setData(newData.getPersonList(), newData.getTeamList(), newData.getPositionList());
+    }
+
+    /**
+     * Returns the version of the data in this address book, which changes whenever the data is modified.
+     */
+    public long getVersion() {
+        return version;
     }
 
     //// person-level operations
@@ -92,6 +139,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        indexPerson(p);
+        version++;
     }
 
     /**
@@ -103,6 +152,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        unindexPerson(target);
+        indexPerson(editedPerson);
+        version++;
     }
 
     /**
@@ -111,6 +163,55 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        unindexPerson(key);
+        version++;
+    }
+
+    /**
+     * Returns a predicate matching the persons that satisfy all of the given team, injury and position predicates.
+     * The matches are collected from the bitmap index, so filtering the person list with it tests each person with
+     * one lookup instead of comparing names.
+     */
+    public Predicate<Person> selectPersons(FilterByTeamPredicate teamPredicate,
+                                           FilterByInjuryPredicate injuryPredicate,
+                                           FilterByPositionPredicate positionPredicate) {
+        requireAllNonNull(teamPredicate, injuryPredicate, positionPredicate);
+        return persons.select(teamPredicate.getTeamName(), injuryPredicate.getInjuryName(),
+                positionPredicate.getPositionName(), teamPredicate.and(injuryPredicate).and(positionPredicate));
+    }
+
+    /**
+     * Returns a predicate matching the injured persons, collected from the bitmap index.
+     */
+    public Predicate<Person> selectInjuredPersons() {
+        return persons.selectInjured(new FilterInjuredPredicate());
+    }
+
+    /**
+     * Returns a predicate matching the captains, collected from the bitmap index.
+     */
+    public Predicate<Person> selectCaptains() {
+        return persons.selectCaptains(Person::isCaptain);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, whose matches are collected from the name index.
+     */
+    public Predicate<Person> selectPersonsByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.selectByName(predicate);
+    }
+
+    /**
+     * Returns up to {@code limit} of the names of {@code field} starting with {@code prefix}, ignoring case, in
+     * alphabetical order.
+     */
+    public List<String> getCompletions(CompletionField field, String prefix, int limit) {
+        requireAllNonNull(field, prefix);
+        if (completionIndex == null) {
+            completionIndex = new CompletionIndex(this);
+        }
+        return completionIndex.getCompletions(field, prefix, limit);
     }
 
     //// team level operations
@@ -137,6 +238,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTeam(Team t) {
         teams.add(t);
+        if (completionIndex != null) {
+            completionIndex.addTeam(t);
+        }
+        version++;
     }
 
     /**
@@ -145,6 +250,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTeams(List<Team> teams) {
         this.teams.setTeams(teams);
+        completionIndex = null;
+        version++;
     }
 
     /**
@@ -153,7 +260,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The team must exist in the address book.
      */
     public void assignTeam(Person person, Team team) {
-        this.persons.assignTeam(person, team);
+        Person editedPerson = this.persons.assignTeam(person, team);
+        unindexPerson(person);
+        indexPerson(editedPerson);
+        version++;
     }
 
     /**
@@ -161,12 +271,54 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean isTeamEmpty(Team team) {
         requireNonNull(team);
-        for (Person person : persons) {
-            if (team.equals(person.getTeam())) {
-                return false;
-            }
+        return !membersByTeam.containsKey(team);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons assigned to {@code team}.
+     */
+    public Set<Person> getTeamMembers(Team team) {
+        requireNonNull(team);
+        Set<Person> members = membersByTeam.get(team);
+        return members == null ? Collections.emptySet() : Collections.unmodifiableSet(members);
+    }
+
+    /**
+     * Returns the number of persons assigned to {@code team}.
+     */
+    public int getTeamPlayerCount(Team team) {
+        requireNonNull(team);
+        Set<Person> members = membersByTeam.get(team);
+        return members == null ? 0 : members.size();
+    }
+
+    /**
+     * Records {@code person} as a member of their team and as a player in their position.
+     */
+    private void indexPerson(Person person) {
+        membersByTeam.computeIfAbsent(person.getTeam(), unused -> new LinkedHashSet<>()).add(person);
+        playerCountByPosition.merge(person.getPosition(), 1, Integer::sum);
+        if (completionIndex != null) {
+            completionIndex.addPerson(person);
+        }
+    }
+
+    /**
+     * Reverses {@link #indexPerson(Person)}, dropping the entries of teams and positions that no longer have players.
+     */
+    private void unindexPerson(Person person) {
+        Set<Person> members = membersByTeam.get(person.getTeam());
+        if (members == null || !members.remove(person)) {
+            return;
+        }
+        if (members.isEmpty()) {
+            membersByTeam.remove(person.getTeam());
+        }
+        playerCountByPosition.computeIfPresent(person.getPosition(), (position, count) ->
+                count == 1 ? null : count - 1);
+        if (completionIndex != null) {
+            completionIndex.removePerson(person);
         }
-        return true;
     }
 
     /**
@@ -179,6 +331,10 @@ public class AddressBook implements ReadOnlyAddressBook {
             throw new TeamNotEmptyException();
         }
         teams.remove(team);
+        if (completionIndex != null) {
+            completionIndex.removeTeam(team);
+        }
+        version++;
     }
 
     /**
@@ -187,6 +343,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPositions(List<Position> positions) {
         this.positions.setPositions(positions);
+        completionIndex = null;
+        version++;
     }
 
     /**
@@ -205,16 +363,48 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     public void addPosition(Position position) {
         positions.add(position);
+        if (completionIndex != null) {
+            completionIndex.addPosition(position);
+        }
+        version++;
     }
 
     public void removePosition(Position position) {
         positions.remove(position);
+        if (completionIndex != null) {
+            completionIndex.removePosition(position);
+        }
+        version++;
     }
 
     public Position getPositionByName(String name) {
         return positions.getByName(name);
     }
 
+    /**
+     * Returns true if {@code position} is assigned to at least one person in the address book.
+     * Positions are compared case-insensitively.
+     */
+    public boolean isPositionAssigned(Position position) {
+        requireNonNull(position);
+        return playerCountByPosition.containsKey(position);
+    }
+
+    /**
+     * Returns the number of persons assigned to {@code position}.
+     */
+    public int getPositionPlayerCount(Position position) {
+        requireNonNull(position);
+        return playerCountByPosition.getOrDefault(position, 0);
+    }
+
+    /**
+     * Returns an unmodifiable view of the number of players in each position that has at least one player.
+     */
+    public Map<Position, Integer> getPlayerCountByPosition() {
+        return Collections.unmodifiableMap(playerCountByPosition);
+    }
+
     /// / util methods
 
     @Override
@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The formats that the address book data file can be saved in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON,
+    /** A compact binary format, which loads much faster for large rosters. */
+    BINARY
+}
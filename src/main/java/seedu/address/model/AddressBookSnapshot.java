@@ -0,0 +1,49 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.Team;
+
+/**
+ * An unchanging copy of the lists of an address book, taken at one point in time.
+ * Persons, teams and positions are immutable, so copying the lists is enough for the snapshot to be read safely
+ * from another thread while the address book itself keeps changing.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Team> teams;
+    private final ObservableList<Position> positions;
+
+    /**
+     * Creates a snapshot of the current contents of {@code addressBook}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        teams = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getTeamList()));
+        positions = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPositionList()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Team> getTeamList() {
+        return teams;
+    }
+
+    @Override
+    public ObservableList<Position> getPositionList() {
+        return positions;
+    }
+}
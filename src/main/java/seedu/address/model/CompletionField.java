@@ -0,0 +1,15 @@
+package seedu.address.model;
+
+/**
+ * The kinds of names in the address book that a partly typed command can be completed with.
+ */
+public enum CompletionField {
+    /** The full names of persons. */
+    PERSON,
+    /** The names of teams. */
+    TEAM,
+    /** The names of positions. */
+    POSITION,
+    /** The names of the injuries that persons have. */
+    INJURY
+}
@@ -0,0 +1,76 @@
+package seedu.address.model;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.model.person.Injury;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.Team;
+
+/**
+ * A {@link PrefixTrie} of the names in an address book for each {@link CompletionField}, kept up to date by the
+ * address book as its persons, teams and positions change. Injury names are counted once per person with the injury,
+ * so a name is only dropped once no person has it.
+ */
+class CompletionIndex {
+
+    private final Map<CompletionField, PrefixTrie> tries = new EnumMap<>(CompletionField.class);
+
+    /**
+     * Creates an index of the names in {@code addressBook}.
+     */
+    CompletionIndex(ReadOnlyAddressBook addressBook) {
+        for (CompletionField field : CompletionField.values()) {
+            tries.put(field, new PrefixTrie());
+        }
+        for (Person person : addressBook.getPersonList()) {
+            addPerson(person);
+        }
+        for (Team team : addressBook.getTeamList()) {
+            addTeam(team);
+        }
+        for (Position position : addressBook.getPositionList()) {
+            addPosition(position);
+        }
+    }
+
+    void addPerson(Person person) {
+        tries.get(CompletionField.PERSON).add(person.getName().fullName);
+        for (Injury injury : person.getInjuries()) {
+            tries.get(CompletionField.INJURY).add(injury.getInjuryName());
+        }
+    }
+
+    void removePerson(Person person) {
+        tries.get(CompletionField.PERSON).remove(person.getName().fullName);
+        for (Injury injury : person.getInjuries()) {
+            tries.get(CompletionField.INJURY).remove(injury.getInjuryName());
+        }
+    }
+
+    void addTeam(Team team) {
+        tries.get(CompletionField.TEAM).add(team.getName());
+    }
+
+    void removeTeam(Team team) {
+        tries.get(CompletionField.TEAM).remove(team.getName());
+    }
+
+    void addPosition(Position position) {
+        tries.get(CompletionField.POSITION).add(position.getName());
+    }
+
+    void removePosition(Position position) {
+        tries.get(CompletionField.POSITION).remove(position.getName());
+    }
+
+    /**
+     * Returns up to {@code limit} of the names of {@code field} starting with {@code prefix}, ignoring case.
+     */
+    List<String> getCompletions(CompletionField field, String prefix, int limit) {
+        return tries.get(field).startingWith(prefix, limit);
+    }
+}
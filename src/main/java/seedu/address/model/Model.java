@@ -1,15 +1,22 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.FilterByInjuryPredicate;
 import seedu.address.model.person.FilterInjuredPredicate;
 import seedu.address.model.person.Injury;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.position.FilterByPositionPredicate;
 import seedu.address.model.position.Position;
+import seedu.address.model.team.FilterByTeamPredicate;
 import seedu.address.model.team.Team;
 
 /**
@@ -63,6 +70,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the address book data, which changes whenever the data is modified.
+     */
+    long getAddressBookVersion();
+
     /**
      * Replaces address book data with the data in {@code addressBook}.
      */
@@ -132,6 +144,36 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns a predicate matching the persons that satisfy all of the given team, injury and position predicates.
+     * The predicate is evaluated with a bitmap index, so filtering by it is cheaper than filtering by the
+     * conjunction of the given predicates.
+     */
+    Predicate<Person> selectPersons(FilterByTeamPredicate teamPredicate, FilterByInjuryPredicate injuryPredicate,
+                                    FilterByPositionPredicate positionPredicate);
+
+    /**
+     * Returns a predicate equivalent to {@link #PREDICATE_SHOW_ALL_INJURED} that is evaluated with a bitmap index.
+     */
+    Predicate<Person> selectInjuredPersons();
+
+    /**
+     * Returns a predicate equivalent to {@link #PREDICATE_SHOW_CAPTAINS} that is evaluated with a bitmap index.
+     */
+    Predicate<Person> selectCaptains();
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} whose matches are looked up in an index of the words of
+     * names, so filtering by it does not compare the keywords with every name.
+     */
+    Predicate<Person> selectPersonsByName(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Returns up to {@code limit} of the names of {@code field} in the address book starting with {@code prefix},
+     * ignoring case, in alphabetical order.
+     */
+    List<String> getCompletions(CompletionField field, String prefix, int limit);
+
     /**
      * Returns true if a team with the same identity as {@code team} exists in the address book.
      */
@@ -153,6 +195,16 @@ public interface Model {
      */
     boolean isTeamEmpty(Team team);
 
+    /**
+     * Returns an unmodifiable view of the persons assigned to {@code team}.
+     */
+    Set<Person> getTeamMembers(Team team);
+
+    /**
+     * Returns the number of persons assigned to {@code team}.
+     */
+    int getTeamPlayerCount(Team team);
+
     /**
      * Deletes team from the address book.
      * The team must exist in the address book.
@@ -197,6 +249,16 @@ public interface Model {
      */
     boolean isPositionAssigned(Position position);
 
+    /**
+     * Returns the number of persons assigned to the given position.
+     */
+    int getPositionPlayerCount(Position position);
+
+    /**
+     * Returns an unmodifiable view of the number of players in each position that has at least one player.
+     */
+    Map<Position, Integer> getPlayerCountByPosition();
+
     void assignCaptain(Person person);
 
     void unassignCaptain(Person person);
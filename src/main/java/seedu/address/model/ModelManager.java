@@ -4,7 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -13,10 +14,15 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CompactSet;
+import seedu.address.model.person.FilterByInjuryPredicate;
 import seedu.address.model.person.Injury;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.position.FilterByPositionPredicate;
 import seedu.address.model.position.Position;
+import seedu.address.model.team.FilterByTeamPredicate;
 import seedu.address.model.team.Team;
 
 /**
@@ -92,6 +98,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
@@ -133,13 +144,10 @@ public class ModelManager implements Model {
     public Person addInjury(Person target, Injury injury) {
         requireAllNonNull(target, injury);
 
-        Set<Injury> updatedInjuries = new HashSet<>(target.getInjuries());
-
         // Remove FIT status when assigning any other injury
-        if (updatedInjuries.contains(Injury.DEFAULT_INJURY_STATUS)) {
-            updatedInjuries.remove(Injury.DEFAULT_INJURY_STATUS);
-        }
-        updatedInjuries.add(injury);
+        Set<Injury> updatedInjuries = CompactSet.copyOf(target.getInjuries())
+                .without(Injury.DEFAULT_INJURY_STATUS)
+                .with(injury);
 
         Person updatedPerson = target.withInjuries(updatedInjuries);
         setPerson(target, updatedPerson);
@@ -150,12 +158,11 @@ public class ModelManager implements Model {
     public Person deleteInjury(Person target, Injury injury) {
         requireAllNonNull(target, injury);
 
-        Set<Injury> updatedInjuries = new HashSet<>(target.getInjuries());
-        updatedInjuries.remove(injury);
+        Set<Injury> updatedInjuries = CompactSet.copyOf(target.getInjuries()).without(injury);
 
         // Ensure that the person has at least the default injury status
         if (updatedInjuries.isEmpty()) {
-            updatedInjuries.add(Injury.DEFAULT_INJURY_STATUS);
+            updatedInjuries = CompactSet.of(Injury.DEFAULT_INJURY_STATUS);
         }
 
         Person updatedPerson = target.withInjuries(updatedInjuries);
@@ -193,6 +200,36 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Person> selectPersons(FilterByTeamPredicate teamPredicate,
+                                           FilterByInjuryPredicate injuryPredicate,
+                                           FilterByPositionPredicate positionPredicate) {
+        requireAllNonNull(teamPredicate, injuryPredicate, positionPredicate);
+        return addressBook.selectPersons(teamPredicate, injuryPredicate, positionPredicate);
+    }
+
+    @Override
+    public Predicate<Person> selectInjuredPersons() {
+        return addressBook.selectInjuredPersons();
+    }
+
+    @Override
+    public Predicate<Person> selectCaptains() {
+        return addressBook.selectCaptains();
+    }
+
+    @Override
+    public Predicate<Person> selectPersonsByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.selectPersonsByName(predicate);
+    }
+
+    @Override
+    public List<String> getCompletions(CompletionField field, String prefix, int limit) {
+        requireAllNonNull(field, prefix);
+        return addressBook.getCompletions(field, prefix, limit);
+    }
+
     //=========== Filtered Team List Accessors =============================================================
 
     /**
@@ -227,8 +264,8 @@ public class ModelManager implements Model {
     @Override
     public Person getTeamCaptain(Team team) {
         requireNonNull(team);
-        return addressBook.getPersonList().stream()
-                .filter(person -> person.getTeam().equals(team) && person.isCaptain())
+        return addressBook.getTeamMembers(team).stream()
+                .filter(Person::isCaptain)
                 .findFirst()
                 .orElse(null);
     }
@@ -261,6 +298,18 @@ public class ModelManager implements Model {
         return addressBook.isTeamEmpty(team);
     }
 
+    @Override
+    public Set<Person> getTeamMembers(Team team) {
+        requireNonNull(team);
+        return addressBook.getTeamMembers(team);
+    }
+
+    @Override
+    public int getTeamPlayerCount(Team team) {
+        requireNonNull(team);
+        return addressBook.getTeamPlayerCount(team);
+    }
+
     @Override
     public void deleteTeam(Team team) {
         requireNonNull(team);
@@ -313,8 +362,18 @@ public class ModelManager implements Model {
     @Override
     public boolean isPositionAssigned(Position position) {
         requireNonNull(position);
-        return addressBook.getPersonList().stream()
-                .anyMatch(person -> person.getPosition().getName().equalsIgnoreCase(position.getName()));
+        return addressBook.isPositionAssigned(position);
+    }
+
+    @Override
+    public int getPositionPlayerCount(Position position) {
+        requireNonNull(position);
+        return addressBook.getPositionPlayerCount(position);
+    }
+
+    @Override
+    public Map<Position, Integer> getPlayerCountByPosition() {
+        return addressBook.getPlayerCountByPosition();
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's injury status in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidInjuryName(String)}
@@ -14,6 +16,9 @@ public class Injury {
     public static final String MESSAGE_CONSTRAINTS =
             "Injuries should only contain alphanumeric characters and spaces, and it should not be blank";
 
+    private static final Interner<Injury> INSTANCES = new Interner<>(name ->
+            name.equals(DEFAULT_INJURY_STATUS.injuryName) ? DEFAULT_INJURY_STATUS : new Injury(name));
+
     private final String injuryName;
 
     /**
@@ -27,6 +32,13 @@ public class Injury {
         this.injuryName = name;
     }
 
+    /**
+     * Returns the shared {@code Injury} named {@code name}, creating it if there is none yet.
+     */
+    public static Injury of(String name) {
+        return INSTANCES.intern(name);
+    }
+
     /**
      * Returns true if a given string is a valid injury name.
      */
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +21,8 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    private final int hashCode;
+    private volatile String[] foldedWords;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +33,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        hashCode = name.toLowerCase().hashCode();
     }
 
     /**
@@ -38,6 +43,22 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words of this name with their case folded by {@link StringUtil#foldCase(String)}, for matching
+     * keywords against without splitting the name again. They are worked out on the first call and shared by every
+     * later call, so the returned array must not be modified.
+     */
+    String[] getFoldedWords() {
+        String[] words = foldedWords;
+        if (words == null) {
+            words = StringUtil.splitWords(fullName);
+            for (int i = 0; i < words.length; i++) {
+                words[i] = StringUtil.foldCase(words[i]);
+            }
+            foldedWords = words;
+        }
+        return words;
+    }
 
     @Override
     public String toString() {
@@ -63,7 +84,7 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.toLowerCase().hashCode();
+        return hashCode;
     }
 
 }
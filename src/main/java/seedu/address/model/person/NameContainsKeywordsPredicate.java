@@ -1,5 +1,8 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -8,18 +11,62 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword matches a word of the name as its {@link NameMatchMode} allows, ignoring case: by default, only a whole
+ * word. The keywords are case-folded once, and compared with the words that each {@code Name} keeps case-folded,
+ * so testing a person by whole words or prefixes allocates nothing.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final NameMatchMode matchMode;
+    private final String[] foldedKeywords;
 
+    /**
+     * Creates a predicate that matches names containing any of {@code keywords}, each of which must be a single word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, NameMatchMode.WORD);
+    }
+
+    /**
+     * Creates a predicate that matches names with a word matching any of {@code keywords} in {@code matchMode}.
+     * Each keyword must be a single word.
+     */
+    public NameContainsKeywordsPredicate(List<String> keywords, NameMatchMode matchMode) {
+        requireNonNull(matchMode);
         this.keywords = keywords;
+        this.matchMode = matchMode;
+        this.foldedKeywords = new String[keywords.size()];
+        for (int i = 0; i < foldedKeywords.length; i++) {
+            String keyword = keywords.get(i).trim();
+            checkArgument(!keyword.isEmpty(), "Keyword cannot be empty");
+            checkArgument(StringUtil.splitWords(keyword).length == 1, "Keyword should be a single word");
+            foldedKeywords[i] = StringUtil.foldCase(keyword);
+        }
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        String[] words = person.getName().getFoldedWords();
+        for (String keyword : foldedKeywords) {
+            for (String word : words) {
+                if (matches(keyword, word)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean matches(String foldedKeyword, String foldedWord) {
+        switch (matchMode) {
+        case PREFIX:
+            return foldedWord.startsWith(foldedKeyword);
+        case FUZZY:
+            return StringUtil.isWithinEditDistance(foldedKeyword, foldedWord,
+                    NameMatchMode.maxEditDistance(foldedKeyword));
+        default:
+            return foldedWord.equals(foldedKeyword);
+        }
     }
 
     @Override
@@ -34,12 +81,13 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         NameContainsKeywordsPredicate otherNameContainsKeywordsPredicate = (NameContainsKeywordsPredicate) other;
-        return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
+        return keywords.equals(otherNameContainsKeywordsPredicate.keywords)
+                && matchMode == otherNameContainsKeywordsPredicate.matchMode;
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("keywords", keywords).toString();
+        return new ToStringBuilder(this).add("keywords", keywords).add("matchMode", matchMode).toString();
     }
 
     /**
@@ -48,4 +96,18 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
     public List<String> getKeywords() {
         return keywords;
     }
+
+    /**
+     * Returns how the keywords are matched with the words of names.
+     */
+    public NameMatchMode getMatchMode() {
+        return matchMode;
+    }
+
+    /**
+     * Returns the keywords case-folded, as they are compared with the words of names.
+     */
+    String[] getFoldedKeywords() {
+        return foldedKeywords.clone();
+    }
 }
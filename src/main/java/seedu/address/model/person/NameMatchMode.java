@@ -0,0 +1,27 @@
+package seedu.address.model.person;
+
+/**
+ * The ways in which a {@code find} keyword can match a word of a name. Every mode ignores case.
+ */
+public enum NameMatchMode {
+    /** The keyword is the whole word. */
+    WORD,
+    /** The keyword is the start of the word, e.g. {@code Jo} matches {@code John}. */
+    PREFIX,
+    /**
+     * The keyword is the word with a few typos, up to {@link #maxEditDistance(String)} single-character insertions,
+     * deletions or substitutions, e.g. {@code Jonh} matches {@code John}.
+     */
+    FUZZY;
+
+    /**
+     * Returns the number of typos that a keyword matched with {@link #FUZZY} may contain: none for keywords of up to
+     * 2 characters, which would match too many names otherwise, one for up to 5 characters and two beyond that.
+     */
+    public static int maxEditDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+}
@@ -2,11 +2,10 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.CompactSet;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.position.Position;
 import seedu.address.model.tag.Tag;
@@ -15,10 +14,15 @@ import seedu.address.model.team.Team;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Tags and injuries are held in immutable {@code CompactSet}s, which the copies made by the {@code with*} methods
+ * share with the original. The hash code is computed once on construction, and {@code equals} compares it before
+ * any field.
  */
 public class Person {
     public static final boolean DEFAULT_CAPTAIN_STATUS = false;
 
+    private static final CompactSet<Injury> DEFAULT_INJURIES = CompactSet.of(Injury.DEFAULT_INJURY_STATUS);
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -26,11 +30,12 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Injury> injuries = new HashSet<>();
+    private final CompactSet<Tag> tags;
+    private final CompactSet<Injury> injuries;
     private final Team team;
     private final Position position;
     private final boolean isCaptain;
+    private final int hashCode;
 
     /**
      * Creates a Person object assigned to a team with the default injury status, position, and captain status.
@@ -45,10 +50,11 @@ public class Person {
         this.email = email;
         this.address = address;
         this.team = team;
-        this.tags.addAll(tags);
+        this.tags = CompactSet.copyOf(tags);
         this.position = Position.DEFAULT_POSITION;
-        this.injuries.add(Injury.DEFAULT_INJURY_STATUS);
+        this.injuries = DEFAULT_INJURIES;
         this.isCaptain = DEFAULT_CAPTAIN_STATUS;
+        this.hashCode = computeHashCode();
     }
 
     /**
@@ -65,10 +71,11 @@ public class Person {
         this.email = email;
         this.address = address;
         this.team = team;
-        this.tags.addAll(tags);
+        this.tags = CompactSet.copyOf(tags);
         this.position = position;
-        this.injuries.addAll(injuries);
+        this.injuries = CompactSet.copyOf(injuries);
         this.isCaptain = isCaptain;
+        this.hashCode = computeHashCode();
     }
 
     public Name getName() {
@@ -105,7 +112,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -114,7 +121,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Injury> getInjuries() {
-        return Collections.unmodifiableSet(injuries);
+        return injuries;
     }
 
     /**
@@ -166,7 +173,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hashCode == otherPerson.hashCode
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
@@ -179,6 +187,10 @@ public class Person {
 
     @Override
     public int hashCode() {
+        return hashCode;
+    }
+
+    private int computeHashCode() {
         // use this method for custom fields hashing instead of implementing your own
         return Objects.hash(name, phone, email, address, team, tags, position, injuries, isCaptain);
     }
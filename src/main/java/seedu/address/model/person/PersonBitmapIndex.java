@@ -0,0 +1,273 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A bitmap index over a list of persons that answers team, position, injury and captain queries with bitset
+ * operations instead of testing every person.
+ * <p>
+ * Each indexed person holds a slot, which is their bit in one bitset per team, per position, per injury and in the
+ * bitset of captains. Slots are not positions in the list: the slot of a removed person is cleared and given to the
+ * next person added, so a change touches only the bitsets of the persons involved, and the bitsets never grow past
+ * the largest number of persons the list has held. Team, position and injury names are matched case-insensitively.
+ * The owner of the list must report every change to it through this class.
+ * <p>
+ * The bitsets are plain {@code BitSet}s rather than compressed ones, so each takes up to one bit per slot however few
+ * persons it holds: about 12 KB per team, position or injury for 100,000 persons.
+ * <p>
+ * A query combines the bitsets it needs a word at a time, and collects the persons in the remaining slots, in time
+ * proportional to the number of slots divided by 64 plus the number of matches. It returns a predicate that tests
+ * whether a person was collected, which a {@code FilteredList} still calls once for each person in the list, so
+ * filtering with it costs one hash lookup per person rather than a comparison of names.
+ */
+public class PersonBitmapIndex {
+
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    private Person[] personsBySlot = new Person[0];
+    private int[] freeSlots = new int[0];
+    private int freeSlotCount;
+    private int slotCount;
+
+    private final BitSet occupied = new BitSet();
+    private final BitSet captains = new BitSet();
+    private final Map<String, BitSet> teams = new HashMap<>();
+    private final Map<String, BitSet> positions = new HashMap<>();
+    private final Map<String, BitSet> injuries = new HashMap<>();
+    private int version;
+
+    /**
+     * Indexes {@code person}, which is being added to the list.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        version++;
+        int slot = takeSlot();
+        slots.put(person, slot);
+        personsBySlot[slot] = person;
+        occupied.set(slot);
+        setBits(person, slot, true);
+    }
+
+    /**
+     * Indexes {@code editedPerson}, which is replacing {@code target} in the list. {@code target} must be the
+     * instance that was indexed.
+     */
+    public void set(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        version++;
+        Integer slot = slots.remove(target);
+        assert slot != null : "The replaced person should be indexed";
+        setBits(target, slot, false);
+        slots.put(editedPerson, slot);
+        personsBySlot[slot] = editedPerson;
+        setBits(editedPerson, slot, true);
+    }
+
+    /**
+     * Unindexes {@code person}, which is being removed from the list. {@code person} must be the instance that was
+     * indexed.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        version++;
+        Integer slot = slots.remove(person);
+        assert slot != null : "The removed person should be indexed";
+        setBits(person, slot, false);
+        personsBySlot[slot] = null;
+        occupied.clear(slot);
+        releaseSlot(slot);
+    }
+
+    /**
+     * Indexes {@code newPersons} in place of the current persons, as they are replacing the whole list.
+     */
+    public void setAll(List<Person> newPersons) {
+        requireNonNull(newPersons);
+        version++;
+        slots.clear();
+        personsBySlot = new Person[newPersons.size()];
+        freeSlotCount = 0;
+        slotCount = 0;
+        occupied.clear();
+        captains.clear();
+        teams.clear();
+        positions.clear();
+        injuries.clear();
+        for (Person person : newPersons) {
+            int slot = takeSlot();
+            slots.put(person, slot);
+            personsBySlot[slot] = person;
+            occupied.set(slot);
+            setBits(person, slot, true);
+        }
+    }
+
+    /**
+     * Returns a predicate matching the persons in the team named {@code teamName} with an injury named
+     * {@code injuryName} and in the position named {@code positionName}. An empty name matches every person.
+     *
+     * @param fallback an equivalent predicate, used for the persons added or edited after the query.
+     */
+    public Predicate<Person> select(String teamName, String injuryName, String positionName,
+                                    Predicate<Person> fallback) {
+        requireAllNonNull(teamName, injuryName, positionName, fallback);
+
+        BitSet matches = (BitSet) occupied.clone();
+        andIfNotEmpty(matches, teams, teamName);
+        andIfNotEmpty(matches, injuries, injuryName);
+        andIfNotEmpty(matches, positions, positionName);
+        return new Selection(collect(matches), fallback);
+    }
+
+    /**
+     * Returns a predicate matching the persons with at least one injury other than
+     * {@link Injury#DEFAULT_INJURY_STATUS}.
+     *
+     * @param fallback an equivalent predicate, used for the persons added or edited after the query.
+     */
+    public Predicate<Person> selectInjured(Predicate<Person> fallback) {
+        requireNonNull(fallback);
+
+        String defaultInjury = toKey(Injury.DEFAULT_INJURY_STATUS.getInjuryName());
+        BitSet matches = new BitSet(slotCount);
+        injuries.forEach((injuryName, bits) -> {
+            if (!injuryName.equals(defaultInjury)) {
+                matches.or(bits);
+            }
+        });
+        return new Selection(collect(matches), fallback);
+    }
+
+    /**
+     * Returns a predicate matching the persons who are captains.
+     *
+     * @param fallback an equivalent predicate, used for the persons added or edited after the query.
+     */
+    public Predicate<Person> selectCaptains(Predicate<Person> fallback) {
+        requireNonNull(fallback);
+        return new Selection(collect(captains), fallback);
+    }
+
+    /**
+     * Returns a predicate matching {@code matches}, which are indexed persons found by the owner of the list from
+     * another index.
+     *
+     * @param fallback an equivalent predicate, used for the persons added or edited after the query.
+     */
+    public Predicate<Person> selectPersons(Collection<Person> matches, Predicate<Person> fallback) {
+        requireAllNonNull(matches, fallback);
+        Set<Person> selected = Collections.newSetFromMap(new IdentityHashMap<>(matches.size()));
+        selected.addAll(matches);
+        return new Selection(selected, fallback);
+    }
+
+    /**
+     * Returns the persons in the slots set in {@code matches}.
+     */
+    private Set<Person> collect(BitSet matches) {
+        Set<Person> selected = Collections.newSetFromMap(new IdentityHashMap<>(matches.cardinality()));
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            selected.add(personsBySlot[slot]);
+        }
+        return selected;
+    }
+
+    /**
+     * Returns a free slot, reusing the slot of a removed person if there is one.
+     */
+    private int takeSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (slotCount == personsBySlot.length) {
+            personsBySlot = Arrays.copyOf(personsBySlot, Math.max(16, slotCount * 2));
+        }
+        return slotCount++;
+    }
+
+    private void releaseSlot(int slot) {
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, Math.max(16, freeSlotCount * 2));
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    /**
+     * Sets or clears the bits of {@code slot} in every bitset that {@code person} belongs to.
+     */
+    private void setBits(Person person, int slot, boolean value) {
+        captains.set(slot, value && person.isCaptain());
+        bitsFor(teams, person.getTeam().getName()).set(slot, value);
+        bitsFor(positions, person.getPosition().getName()).set(slot, value);
+        for (Injury injury : person.getInjuries()) {
+            bitsFor(injuries, injury.getInjuryName()).set(slot, value);
+        }
+    }
+
+    /**
+     * Intersects {@code matches} with the bits of {@code name}, unless {@code name} is empty.
+     */
+    private static void andIfNotEmpty(BitSet matches, Map<String, BitSet> bitsByName, String name) {
+        if (name.isEmpty()) {
+            return;
+        }
+        BitSet bits = bitsByName.get(toKey(name));
+        if (bits == null) {
+            matches.clear();
+        } else {
+            matches.and(bits);
+        }
+    }
+
+    /**
+     * Returns the bitset of {@code name}, creating an empty one if there is none yet.
+     */
+    private static BitSet bitsFor(Map<String, BitSet> bitsByName, String name) {
+        return bitsByName.computeIfAbsent(toKey(name), unused -> new BitSet());
+    }
+
+    /**
+     * Returns the case-folded form of {@code name} under which its bitset is stored, which is the same for any two
+     * names that are equal ignoring case.
+     */
+    private static String toKey(String name) {
+        return StringUtil.foldCase(name);
+    }
+
+    /**
+     * The persons matching a query. Persons are immutable, so a person who matched still matches; a person that
+     * was not indexed at the time of the query, as it was added or edited since, is tested with the fallback.
+     */
+    private class Selection implements Predicate<Person> {
+        private final Set<Person> matches;
+        private final Predicate<Person> fallback;
+        private final int selectionVersion = version;
+
+        Selection(Set<Person> matches, Predicate<Person> fallback) {
+            this.matches = matches;
+            this.fallback = fallback;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (matches.contains(person)) {
+                return true;
+            }
+            return selectionVersion != version && fallback.test(person);
+        }
+    }
+}
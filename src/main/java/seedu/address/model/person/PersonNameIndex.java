@@ -0,0 +1,124 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.PrefixTrie;
+
+/**
+ * An inverted index from the case-folded words of names to the names containing them, which answers find queries
+ * by looking up each keyword instead of testing every person.
+ * <p>
+ * Most words occur in only a few names, so each word keeps a plain list of its names rather than a bitmap over the
+ * whole list. Names are stored rather than positions in the list, so removing a person does not renumber the index.
+ * The distinct words are also kept in a {@link PrefixTrie}, which finds the words starting with a prefix, and the
+ * words within a few typos of a keyword, by visiting only the branches that can still match. The owner of the list
+ * must report every change to it through this class.
+ */
+public class PersonNameIndex {
+
+    private final Map<String, List<Name>> namesByWord = new HashMap<>();
+    private final PrefixTrie words = new PrefixTrie();
+
+    /**
+     * Indexes the name of {@code person}, who is being added to the list.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Name name = person.getName();
+        for (String word : name.getFoldedWords()) {
+            List<Name> names = namesByWord.get(word);
+            if (names == null) {
+                names = new ArrayList<>(1);
+                namesByWord.put(word, names);
+                words.add(word);
+            }
+            // a word repeated within a name is indexed once
+            if (names.isEmpty() || names.get(names.size() - 1) != name) {
+                names.add(name);
+            }
+        }
+    }
+
+    /**
+     * Unindexes the name of {@code person}, who is being removed from the list.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Name name = person.getName();
+        for (String word : name.getFoldedWords()) {
+            List<Name> names = namesByWord.get(word);
+            if (names == null) {
+                continue;
+            }
+            names.remove(name);
+            if (names.isEmpty()) {
+                namesByWord.remove(word);
+                words.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Reindexes the name of {@code editedPerson}, who is replacing {@code target} in the list.
+     */
+    public void set(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        if (target.getName().fullName.equals(editedPerson.getName().fullName)) {
+            return;
+        }
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Indexes the names of {@code newPersons} in place of the current ones, as they are replacing the whole list.
+     */
+    public void setAll(List<Person> newPersons) {
+        requireNonNull(newPersons);
+        namesByWord.clear();
+        words.clear();
+        for (Person person : newPersons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the names containing {@code foldedWord}, which must already be case-folded as by
+     * {@link seedu.address.commons.util.StringUtil#foldCase(String)}.
+     */
+    public List<Name> getNames(String foldedWord) {
+        requireNonNull(foldedWord);
+        List<Name> names = namesByWord.get(foldedWord);
+        return names == null ? Collections.emptyList() : Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Returns the names with a word starting with {@code foldedPrefix}, which must already be case-folded.
+     * A name is returned once for each of its words that matches.
+     */
+    public List<Name> getNamesWithPrefix(String foldedPrefix) {
+        requireNonNull(foldedPrefix);
+        List<Name> names = new ArrayList<>();
+        words.forEachStartingWith(foldedPrefix, word -> names.addAll(namesByWord.get(word)));
+        return names;
+    }
+
+    /**
+     * Returns the names with a word that {@code foldedWord}, which must already be case-folded, can be turned into
+     * by at most {@code maxDistance} single-character insertions, deletions and substitutions.
+     * A name is returned once for each of its words that matches.
+     */
+    public List<Name> getNamesWithin(String foldedWord, int maxDistance) {
+        requireNonNull(foldedWord);
+        List<Name> names = new ArrayList<>();
+        words.forEachWithin(foldedWord, maxDistance, word -> names.addAll(namesByWord.get(word)));
+        return names;
+    }
+}
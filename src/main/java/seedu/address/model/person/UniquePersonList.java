@@ -3,8 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +23,12 @@ import seedu.address.model.team.Team;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since a person's identity is their {@code Name}, an index from each name to the position of its person in the
+ * backing list is maintained alongside it, so identity checks, lookups by name and in-place replacement do not need
+ * to scan the list. A {@link PersonBitmapIndex} over the list is maintained as well, to collect the persons of a
+ * team, position or injury, and the captains, without comparing the names of every person, and a
+ * {@link PersonNameIndex} to find persons by the words of their names.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,13 +38,16 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> indexByName = new HashMap<>();
+    private final PersonBitmapIndex bitmapIndex = new PersonBitmapIndex();
+    private final PersonNameIndex nameIndex = new PersonNameIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return indexByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -46,6 +59,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        indexByName.put(toAdd.getName(), internalList.size());
+        bitmapIndex.add(toAdd);
+        nameIndex.add(toAdd);
         internalList.add(toAdd);
         assert contains(toAdd) : "Added person should now be in the list";
         assert internalList.size() > 0 : "List should not be empty after adding";
@@ -59,7 +75,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -68,6 +84,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        indexByName.remove(target.getName());
+        indexByName.put(editedPerson.getName(), index);
+        bitmapIndex.set(internalList.get(index), editedPerson);
+        nameIndex.set(internalList.get(index), editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -77,37 +97,109 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        bitmapIndex.remove(internalList.get(index));
+        nameIndex.remove(internalList.get(index));
+        internalList.remove(index);
+        indexByName.remove(toRemove.getName());
+        for (int i = index; i < internalList.size(); i++) {
+            indexByName.put(internalList.get(i).getName(), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        bitmapIndex.setAll(replacement.internalList);
+        nameIndex.setAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        indexByName.clear();
+        indexByName.putAll(replacement.indexByName);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Uniqueness is validated in a single hashed pass and the whole list is installed with one {@code setAll},
+     * so this is the preferred way to bulk-load a large number of persons.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Integer> newIndexByName = indexByName(persons);
 
+        bitmapIndex.setAll(persons);
+        nameIndex.setAll(persons);
         internalList.setAll(persons);
+        indexByName.clear();
+        indexByName.putAll(newIndexByName);
     }
 
     public Person getPersonByName(Name name) {
         requireNonNull(name);
-        for (Person person : internalList) {
-            if (person.getName().equals(name)) {
-                return person;
+        Integer index = indexByName.get(name);
+        if (index == null) {
+            throw new PersonNotFoundException();
+        }
+        return internalList.get(index);
+    }
+
+    /**
+     * Returns a predicate matching the persons in the team named {@code teamName} with an injury named
+     * {@code injuryName} and in the position named {@code positionName}, collected from the bitmap index. An empty
+     * name matches every person.
+     *
+     * @param fallback an equivalent predicate, used for the persons added or edited after the query.
+     */
+    public Predicate<Person> select(String teamName, String injuryName, String positionName,
+                                    Predicate<Person> fallback) {
+        return bitmapIndex.select(teamName, injuryName, positionName, fallback);
+    }
+
+    /**
+     * Returns a predicate matching the injured persons, collected from the bitmap index.
+     *
+     * @param fallback an equivalent predicate, used for the persons added or edited after the query.
+     */
+    public Predicate<Person> selectInjured(Predicate<Person> fallback) {
+        return bitmapIndex.selectInjured(fallback);
+    }
+
+    /**
+     * Returns a predicate matching the captains, collected from the bitmap index.
+     *
+     * @param fallback an equivalent predicate, used for the persons added or edited after the query.
+     */
+    public Predicate<Person> selectCaptains(Predicate<Person> fallback) {
+        return bitmapIndex.selectCaptains(fallback);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, matching the persons collected from the name index whose
+     * names match any keyword in the match mode of {@code predicate}.
+     */
+    public Predicate<Person> selectByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        List<Person> matches = new ArrayList<>();
+        for (String keyword : predicate.getFoldedKeywords()) {
+            for (Name name : findNames(keyword, predicate.getMatchMode())) {
+                matches.add(internalList.get(indexByName.get(name)));
             }
         }
-        throw new PersonNotFoundException();
+        return bitmapIndex.selectPersons(matches, predicate);
+    }
+
+    private List<Name> findNames(String foldedKeyword, NameMatchMode matchMode) {
+        switch (matchMode) {
+        case PREFIX:
+            return nameIndex.getNamesWithPrefix(foldedKeyword);
+        case FUZZY:
+            return nameIndex.getNamesWithin(foldedKeyword, NameMatchMode.maxEditDistance(foldedKeyword));
+        default:
+            return nameIndex.getNames(foldedKeyword);
+        }
     }
 
     /**
@@ -119,7 +211,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -148,28 +240,41 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns a map from the name of each person in {@code persons} to their position in {@code persons}.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains persons with the same identity.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Integer> indexByName(List<Person> persons) {
+        Map<Name, Integer> index = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (index.putIfAbsent(persons.get(i).getName(), i) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Returns the position of the person in the list that is equal to {@code person} in all fields,
+     * or -1 if there is no such person.
+     */
+    private int indexOf(Person person) {
+        Integer index = indexByName.get(person.getName());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
     }
 
     /**
-     * Assigns a {@code team} to a {@code person} in the list.
+     * Assigns a {@code team} to a {@code person} in the list and returns the updated person.
      * The person must exist in the list.
      * The team must not be null.
      */
-    public void assignTeam(Person person, Team team) {
+    public Person assignTeam(Person person, Team team) {
         requireAllNonNull(person, team);
 
-        int index = internalList.indexOf(person);
+        int index = indexOf(person);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -178,5 +283,6 @@ public class UniquePersonList implements Iterable<Person> {
         Person editedPerson = personToEdit.withTeam(team).withCaptain(Person.DEFAULT_CAPTAIN_STATUS);
 
         setPerson(personToEdit, editedPerson);
+        return editedPerson;
     }
 }
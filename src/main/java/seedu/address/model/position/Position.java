@@ -5,6 +5,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a player position in the address book (e.g. LW, RW, ST).
  * <p>
@@ -16,6 +18,9 @@ public class Position {
     public static final String MESSAGE_CONSTRAINTS = "Position name can only contain alphanumeric characters";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<Position> INSTANCES = new Interner<>(name ->
+            name.equals(DEFAULT_POSITION.name) ? DEFAULT_POSITION : new Position(name));
+
     private final String name;
 
     /**
@@ -30,6 +35,15 @@ public class Position {
         this.name = trimmed;
     }
 
+    /**
+     * Returns the shared {@code Position} named {@code name}, creating it if there is none yet.
+     * Surrounding whitespace is ignored, as in the constructor.
+     */
+    public static Position of(String name) {
+        requireAllNonNull(name);
+        return INSTANCES.intern(name.trim());
+    }
+
     /**
      * Returns true if the given string is a valid position name.
      */
@@ -3,6 +3,7 @@ package seedu.address.model.position;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 
@@ -88,15 +89,13 @@ public class UniquePositionList implements Iterable<Position> {
         return internalList.iterator();
     }
 
+    /**
+     * Returns true if {@code positions} contains only unique positions.
+     * {@link Position#equals(Object)} agrees with {@link Position#isSamePosition(Position)}, so hashing suffices.
+     */
     private boolean positionsAreUnique(List<Position> positions) {
-        for (int i = 0; i < positions.size() - 1; i++) {
-            for (int j = i + 1; j < positions.size(); j++) {
-                if (positions.get(i).isSamePosition(positions.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        HashSet<Position> positionSet = new HashSet<>(positions);
+        return positionSet.size() == positions.size();
     }
 }
 
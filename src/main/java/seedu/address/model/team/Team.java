@@ -5,6 +5,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Team in the address book.
  */
@@ -14,6 +16,8 @@ public class Team {
             + " and spaces, and it should not be blank";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<Team> INSTANCES = new Interner<>(Team::new);
+
     // Identity fields
     private final String name;
 
@@ -26,6 +30,14 @@ public class Team {
         this.name = name;
     }
 
+    /**
+     * Returns the shared {@code Team} named {@code name}, creating it if there is none yet.
+     * Prefer this to the constructor so that every person in a team refers to the same instance.
+     */
+    public static Team of(String name) {
+        return INSTANCES.intern(name);
+    }
+
     /**
      * Returns true if a given string is a valid team name.
      */
@@ -0,0 +1,199 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Injury;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.position.Position;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.team.Team;
+
+/**
+ * Generates address books of any size with made-up players, for benchmarks and load tests.
+ * <p>
+ * The output depends only on the seed and the configured sizes, and each player depends only on the seed and their
+ * index, so {@link #generatePerson(int)} can produce a player who would follow the generated roster.
+ * <p>
+ * Players {@code 0} to {@code teamCount - 1} are the captains of teams {@code 0} to {@code teamCount - 1}; every
+ * other player is in a random team. Positions follow a typical squad, with about one goalkeeper for every ten
+ * outfield players. A configurable fraction of players is injured, a fifth of them with two injuries.
+ */
+public class RosterGenerator {
+
+    public static final long DEFAULT_SEED = 2103;
+    public static final int DEFAULT_PLAYER_COUNT = 1000;
+    public static final int DEFAULT_TEAM_COUNT = 10;
+    public static final int DEFAULT_POSITION_COUNT = 10;
+    public static final double DEFAULT_INJURY_RATE = 0.1;
+
+    public static final String[] POSITION_NAMES = {"GK", "CB", "LB", "RB", "DM", "CM", "AM", "LW", "RW", "ST"};
+    public static final String[] INJURY_NAMES = {"ACL", "MCL", "Hamstring", "Concussion", "Ankle Sprain", "Fracture"};
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ming",
+        "Siti", "Arjun", "Mei Ling", "Hafiz", "Priya", "Jun Jie", "Nurul", "Ravi", "Hui Min"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ng", "Wong", "Rahman", "Kumar", "Goh", "Chua", "Lee", "Teo"};
+    private static final String[] STREETS = {"Geylang Street", "Clementi Ave", "Serangoon Gardens Street",
+        "Tampines Ave", "Ang Mo Kio Ave", "Jurong West Street", "Aljunied Street", "Bedok North Road"};
+    private static final String[] TAGS = {"friends", "colleagues", "neighbours", "family", "scholarship", "transfer"};
+    private static final int GOALKEEPER_ODDS = 11;
+    private static final double TAG_RATE = 0.3;
+    private static final double SECOND_INJURY_RATE = 0.2;
+
+    private final long seed;
+    private int playerCount = DEFAULT_PLAYER_COUNT;
+    private int teamCount = DEFAULT_TEAM_COUNT;
+    private int positionCount = DEFAULT_POSITION_COUNT;
+    private double injuryRate = DEFAULT_INJURY_RATE;
+
+    /**
+     * Creates a {@code RosterGenerator} with the default seed and sizes.
+     */
+    public RosterGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * Creates a {@code RosterGenerator} with the given {@code seed} and the default sizes.
+     */
+    public RosterGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of players of the generated address books.
+     */
+    public RosterGenerator withPlayers(int playerCount) {
+        checkArgument(playerCount >= 0, "Player count must not be negative");
+        this.playerCount = playerCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of teams of the generated address books.
+     */
+    public RosterGenerator withTeams(int teamCount) {
+        checkArgument(teamCount > 0, "Team count must be positive");
+        this.teamCount = teamCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of positions of the generated address books. Beyond the ten in {@link #POSITION_NAMES},
+     * positions are named {@code POS11}, {@code POS12} and so on.
+     */
+    public RosterGenerator withPositions(int positionCount) {
+        checkArgument(positionCount > 0, "Position count must be positive");
+        this.positionCount = positionCount;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of players who are injured.
+     */
+    public RosterGenerator withInjuryRate(double injuryRate) {
+        checkArgument(injuryRate >= 0 && injuryRate <= 1, "Injury rate must be between 0 and 1");
+        this.injuryRate = injuryRate;
+        return this;
+    }
+
+    /**
+     * Returns the name of the team with the given {@code index}.
+     */
+    public static String getTeamName(int index) {
+        return "Team " + (index + 1);
+    }
+
+    /**
+     * Returns the name of the position with the given {@code index}.
+     */
+    public static String getPositionName(int index) {
+        return index < POSITION_NAMES.length ? POSITION_NAMES[index] : "POS" + (index + 1);
+    }
+
+    /**
+     * Returns a new address book with the configured numbers of players, teams and positions.
+     */
+    public AddressBook generate() {
+        List<Team> teams = new ArrayList<>(teamCount);
+        for (int i = 0; i < teamCount; i++) {
+            teams.add(Team.of(getTeamName(i)));
+        }
+
+        List<Position> positions = new ArrayList<>(positionCount);
+        for (int i = 0; i < positionCount; i++) {
+            positions.add(Position.of(getPositionName(i)));
+        }
+
+        List<Person> persons = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            persons.add(generatePerson(i));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setData(persons, teams, positions);
+        return addressBook;
+    }
+
+    /**
+     * Returns the player with the given {@code index}.
+     * The player is the same whether or not the index is below the configured number of players.
+     */
+    public Person generatePerson(int index) {
+        checkArgument(index >= 0, "Player index must not be negative");
+        Random random = new Random(seed * 1_000_003 + index);
+
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        Name name = new Name(firstName + " " + lastName + " " + (index + 1));
+        Phone phone = new Phone(String.valueOf((random.nextBoolean() ? 80_000_000 : 90_000_000)
+                + random.nextInt(10_000_000)));
+        Email email = new Email(firstName.replace(" ", "").toLowerCase() + (index + 1) + "@example.com");
+        Address address = new Address("Blk " + (random.nextInt(900) + 1) + " "
+                + STREETS[random.nextInt(STREETS.length)] + " " + (random.nextInt(90) + 1)
+                + ", #" + (random.nextInt(20) + 1) + "-" + (random.nextInt(300) + 1));
+
+        boolean isCaptain = index < teamCount;
+        Team team = Team.of(getTeamName(isCaptain ? index : random.nextInt(teamCount)));
+        Position position = Position.of(getPositionName(pickPosition(random)));
+
+        Set<Tag> tags = new HashSet<>();
+        if (random.nextDouble() < TAG_RATE) {
+            tags.add(Tag.of(TAGS[random.nextInt(TAGS.length)]));
+        }
+
+        Set<Injury> injuries = new HashSet<>();
+        if (random.nextDouble() < injuryRate) {
+            injuries.add(Injury.of(INJURY_NAMES[random.nextInt(INJURY_NAMES.length)]));
+            if (random.nextDouble() < SECOND_INJURY_RATE) {
+                injuries.add(Injury.of(INJURY_NAMES[random.nextInt(INJURY_NAMES.length)]));
+            }
+        } else {
+            injuries.add(Injury.DEFAULT_INJURY_STATUS);
+        }
+
+        return new Person(name, phone, email, address, team, tags, position, injuries, isCaptain);
+    }
+
+    /**
+     * Returns the index of a random position. The first position, the goalkeeper when there are several, is picked
+     * about once in {@link #GOALKEEPER_ODDS} times, and the others evenly.
+     */
+    private int pickPosition(Random random) {
+        if (positionCount == 1 || random.nextInt(GOALKEEPER_ODDS) == 0) {
+            return 0;
+        }
+        return 1 + random.nextInt(positionCount - 1);
+    }
+}
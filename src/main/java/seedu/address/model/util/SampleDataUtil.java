@@ -69,17 +69,17 @@ public class SampleDataUtil {
 
     public static Team[] getSampleTeams() {
         return new Team[] {
-            new Team("U12"),
-            new Team("U16"),
-            new Team("U21")
+            Team.of("U12"),
+            Team.of("U16"),
+            Team.of("U21")
         };
     }
 
     public static Position[] getSamplePositions() {
         return new Position[] {
-            new Position("LW"),
-            new Position("RW"),
-            new Position("CAM")
+            Position.of("LW"),
+            Position.of("RW"),
+            Position.of("CAM")
         };
     }
 
@@ -105,7 +105,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -114,7 +114,7 @@ public class SampleDataUtil {
      */
     public static Set<Injury> getInjurySet(String... strings) {
         return Arrays.stream(strings)
-                .map(Injury::new)
+                .map(Injury::of)
                 .collect(Collectors.toSet());
     }
 }
@@ -0,0 +1,322 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompactSet;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Injury;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.position.Position;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.team.Team;
+
+/**
+ * Reads and writes address books in a compact binary format, which loads without any JSON parsing or reflection.
+ * <p>
+ * All integers are big-endian 32-bit values, and strings are UTF-8 bytes prefixed by their length. A file holds, in
+ * order:
+ * <ol>
+ *     <li>the magic number {@link #MAGIC} and the format {@link #VERSION};</li>
+ *     <li>a dictionary: the number of strings, then the strings, holding the names of every team, position, injury
+ *     and tag in the file;</li>
+ *     <li>the team list and the position list: each a count, then the dictionary index of each name;</li>
+ *     <li>the person list: a count, then each person as a record prefixed by its length in bytes. A record holds the
+ *     name, phone, email and address strings, the dictionary indices of the team and the position, a flags byte
+ *     (bit 0 for captains), and the counts and dictionary indices of the tags and the injuries.</li>
+ * </ol>
+ * Readers skip whatever follows the known fields of a record, so later versions can add fields to it.
+ * Each dictionary entry is turned into a model object once, and shared by every person who refers to it.
+ */
+class BinaryAddressBookFormat {
+
+    /** The first four bytes of a binary data file: "PBK" followed by a zero byte. */
+    public static final int MAGIC = 0x50424B00;
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY = "Data file is not in the binary format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file has unsupported version %d.";
+    public static final String MESSAGE_CORRUPTED = "Binary data file is corrupted.";
+
+    private static final int CAPTAIN_FLAG = 1;
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@link #MAGIC}.
+     */
+    static boolean isBinaryFile(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            while (header.hasRemaining() && channel.read(header) != -1) {
+                // keep reading until the magic number is complete or the file ends
+            }
+            return !header.hasRemaining() && header.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Reads the address book in the binary file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalValueException if the file is not a valid binary data file, or there were any data
+     *     constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Data file " + filePath + " is too large");
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // keep reading until the buffer is full or the file ends
+            }
+            buffer.flip();
+        }
+        return read(buffer);
+    }
+
+    /**
+     * Reads the address book in {@code buffer}, which must be backed by an array.
+     */
+    static AddressBook read(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            return new Reader(buffer).read();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        } catch (IllegalArgumentException e) {
+            // thrown by the model constructors when a value breaks their constraints
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, which is flushed but left open.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (Team team : addressBook.getTeamList()) {
+            addToDictionary(team.getName(), dictionary, strings);
+        }
+        for (Position position : addressBook.getPositionList()) {
+            addToDictionary(position.getName(), dictionary, strings);
+        }
+        for (Person person : addressBook.getPersonList()) {
+            addToDictionary(person.getTeam().getName(), dictionary, strings);
+            addToDictionary(person.getPosition().getName(), dictionary, strings);
+            for (Tag tag : person.getTags()) {
+                addToDictionary(tag.tagName, dictionary, strings);
+            }
+            for (Injury injury : person.getInjuries()) {
+                addToDictionary(injury.getInjuryName(), dictionary, strings);
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, OUTPUT_BUFFER_SIZE));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+
+        data.writeInt(strings.size());
+        for (String string : strings) {
+            writeString(data, string);
+        }
+
+        data.writeInt(addressBook.getTeamList().size());
+        for (Team team : addressBook.getTeamList()) {
+            data.writeInt(dictionary.get(team.getName()));
+        }
+        data.writeInt(addressBook.getPositionList().size());
+        for (Position position : addressBook.getPositionList()) {
+            data.writeInt(dictionary.get(position.getName()));
+        }
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        data.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            recordBytes.reset();
+            writeString(record, person.getName().fullName);
+            writeString(record, person.getPhone().value);
+            writeString(record, person.getEmail().value);
+            writeString(record, person.getAddress().value);
+            record.writeInt(dictionary.get(person.getTeam().getName()));
+            record.writeInt(dictionary.get(person.getPosition().getName()));
+            record.writeByte(person.isCaptain() ? CAPTAIN_FLAG : 0);
+            record.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                record.writeInt(dictionary.get(tag.tagName));
+            }
+            record.writeInt(person.getInjuries().size());
+            for (Injury injury : person.getInjuries()) {
+                record.writeInt(dictionary.get(injury.getInjuryName()));
+            }
+
+            data.writeInt(recordBytes.size());
+            recordBytes.writeTo(data);
+        }
+        data.flush();
+    }
+
+    private static void addToDictionary(String string, Map<String, Integer> dictionary, List<String> strings) {
+        if (!dictionary.containsKey(string)) {
+            dictionary.put(string, strings.size());
+            strings.add(string);
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    /**
+     * Reads one address book, turning each dictionary entry into model objects only once.
+     */
+    private static class Reader {
+        private final ByteBuffer buffer;
+        private String[] strings;
+        private Team[] teams;
+        private Position[] positions;
+        private CompactSet<Tag>[] singleTags;
+        private CompactSet<Injury>[] singleInjuries;
+
+        private Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @SuppressWarnings("unchecked")
+        private AddressBook read() throws IllegalValueException {
+            if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            strings = new String[readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readString();
+            }
+            teams = new Team[strings.length];
+            positions = new Position[strings.length];
+            singleTags = new CompactSet[strings.length];
+            singleInjuries = new CompactSet[strings.length];
+
+            List<Team> teamList = new ArrayList<>();
+            for (int count = readCount(); count > 0; count--) {
+                teamList.add(readTeam());
+            }
+            List<Position> positionList = new ArrayList<>();
+            for (int count = readCount(); count > 0; count--) {
+                positionList.add(readPosition());
+            }
+            int personCount = readCount();
+            List<Person> personList = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                personList.add(readPerson());
+            }
+
+            return JsonSerializableAddressBook.toAddressBook(personList, teamList, positionList);
+        }
+
+        private Person readPerson() {
+            int recordLength = readCount();
+            int recordEnd = buffer.position() + recordLength;
+            if (recordEnd > buffer.limit()) {
+                throw new BufferUnderflowException();
+            }
+
+            Name name = new Name(readString());
+            Phone phone = new Phone(readString());
+            Email email = new Email(readString());
+            Address address = new Address(readString());
+            Team team = readTeam();
+            Position position = readPosition();
+            boolean isCaptain = (buffer.get() & CAPTAIN_FLAG) != 0;
+
+            CompactSet<Tag> tags = CompactSet.of();
+            for (int count = readCount(); count > 0; count--) {
+                int index = buffer.getInt();
+                if (singleTags[index] == null) {
+                    singleTags[index] = CompactSet.of(Tag.of(strings[index]));
+                }
+                tags = tags.isEmpty() ? singleTags[index] : tags.with(singleTags[index].iterator().next());
+            }
+
+            CompactSet<Injury> injuries = CompactSet.of();
+            for (int count = readCount(); count > 0; count--) {
+                int index = buffer.getInt();
+                if (singleInjuries[index] == null) {
+                    singleInjuries[index] = CompactSet.of(Injury.of(strings[index]));
+                }
+                injuries = injuries.isEmpty()
+                        ? singleInjuries[index]
+                        : injuries.with(singleInjuries[index].iterator().next());
+            }
+            if (injuries.isEmpty()) {
+                injuries = CompactSet.of(Injury.DEFAULT_INJURY_STATUS);
+            }
+
+            buffer.position(recordEnd);
+            return new Person(name, phone, email, address, team, tags, position, injuries, isCaptain);
+        }
+
+        private Team readTeam() {
+            int index = buffer.getInt();
+            if (teams[index] == null) {
+                teams[index] = Team.of(strings[index]);
+            }
+            return teams[index];
+        }
+
+        private Position readPosition() {
+            int index = buffer.getInt();
+            if (positions[index] == null) {
+                positions[index] = Position.of(strings[index]);
+            }
+            return positions[index];
+        }
+
+        private int readCount() {
+            int count = buffer.getInt();
+            if (count < 0) {
+                throw new BufferUnderflowException();
+            }
+            return count;
+        }
+
+        private String readString() {
+            int length = readCount();
+            if (length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return string;
+        }
+    }
+}
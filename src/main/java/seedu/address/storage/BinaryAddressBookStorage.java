@@ -0,0 +1,25 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the binary format of {@link BinaryAddressBookFormat} on the hard
+ * disk, which loads much faster than JSON. A JSON file at the same location is read too, and saved in the binary
+ * format from then on.
+ */
+public class BinaryAddressBookStorage extends FileAddressBookStorage {
+
+    public BinaryAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        BinaryAddressBookFormat.write(addressBook, out);
+    }
+
+}
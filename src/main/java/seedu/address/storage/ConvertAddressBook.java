@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts a PlayBook data file between the JSON and the binary format.
+ * The format of the input file is detected from its contents.
+ * <p>
+ * Usage: {@code ./gradlew convertAddressBook --args="INPUT OUTPUT json|binary"}
+ */
+public class ConvertAddressBook {
+
+    private static final String USAGE = "Usage: convertAddressBook INPUT OUTPUT json|binary";
+
+    /**
+     * Reads the data file named by {@code args} and saves it in the requested format.
+     */
+    public static void main(String[] args) throws DataLoadingException, IOException {
+        if (args.length != 3) {
+            exitWithUsage();
+        }
+
+        Path inputPath = Paths.get(args[0]);
+        Path outputPath = Paths.get(args[1]);
+        AddressBookFormat format = null;
+        try {
+            format = AddressBookFormat.valueOf(args[2].toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            exitWithUsage();
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(inputPath).readAddressBook();
+        if (addressBook.isEmpty()) {
+            System.err.println("No data file at " + inputPath);
+            System.exit(1);
+        }
+
+        FileAddressBookStorage outputStorage = format == AddressBookFormat.BINARY
+                ? new BinaryAddressBookStorage(outputPath)
+                : new JsonAddressBookStorage(outputPath);
+        outputStorage.saveAddressBook(addressBook.get());
+        System.out.println("Wrote " + addressBook.get().getPersonList().size() + " players to " + outputPath
+                + " in the " + args[2].toLowerCase(Locale.ROOT) + " format");
+    }
+
+    private static void exitWithUsage() {
+        System.err.println(USAGE);
+        System.exit(1);
+    }
+}
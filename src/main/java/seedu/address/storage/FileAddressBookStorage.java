@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a single file on the hard disk.
+ * <p>
+ * Subclasses decide the format that the file is written in. Reading accepts both the JSON and the binary format
+ * whichever the subclass writes, so that switching between formats converts the file on the next save.
+ * Saves replace the file atomically, and reading first recovers a save that the application was stopped in the
+ * middle of.
+ */
+public abstract class FileAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(FileAddressBookStorage.class);
+
+    private Path filePath;
+
+    protected FileAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the format of this storage, without closing {@code out}.
+     */
+    protected abstract void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException;
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> recoveredAddressBook = recoverTemporaryFile(filePath);
+        if (recoveredAddressBook.isPresent()) {
+            return recoveredAddressBook;
+        }
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Data file " + filePath + " found.");
+
+        try {
+            return Optional.of(readFile(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the address book in the file at {@code filePath}, in whichever format it is.
+     */
+    private static ReadOnlyAddressBook readFile(Path filePath) throws IOException, IllegalValueException {
+        return BinaryAddressBookFormat.isBinaryFile(filePath)
+                ? BinaryAddressBookFormat.read(filePath)
+                : JsonAddressBookReader.read(filePath);
+    }
+
+    /**
+     * Recovers the temporary file that a save to {@code filePath} left behind, if any.
+     * A temporary file that can be read in full holds the latest save, so it replaces the file at {@code filePath}
+     * and its address book is returned. Any other temporary file is incomplete, and is deleted.
+     */
+    private Optional<ReadOnlyAddressBook> recoverTemporaryFile(Path filePath) throws DataLoadingException {
+        Path temporaryFile = FileUtil.getTemporaryFile(filePath);
+        if (!Files.exists(temporaryFile)) {
+            return Optional.empty();
+        }
+
+        try {
+            ReadOnlyAddressBook addressBook = readFile(temporaryFile);
+            FileUtil.moveAtomically(temporaryFile, filePath);
+            logger.info("Recovered the data last saved to " + filePath + " from " + temporaryFile);
+            return Optional.of(addressBook);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Discarding incomplete save " + temporaryFile + ": " + e);
+        }
+
+        try {
+            Files.deleteIfExists(temporaryFile);
+        } catch (IOException e) {
+            logger.warning("Could not delete " + temporaryFile + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeAtomically(filePath, out -> writeAddressBook(addressBook, out));
+    }
+
+}
@@ -0,0 +1,457 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot on the hard disk, together with a journal of the
+ * changes made since the snapshot was written.
+ * <p>
+ * The snapshot has the same format as the file of {@link JsonAddressBookStorage}. Each save appends a single line to
+ * the journal, next to the snapshot, holding only the parts of the lists that changed since the previous save, and
+ * forces it to the disk before returning. Reading replays the journal on top of the snapshot. Once the journal grows
+ * past the compaction threshold, a new snapshot is written in the background and the journal starts over, while
+ * further saves keep appending.
+ * <p>
+ * The first line of the journal holds the checksum of the snapshot it applies to. A new snapshot is first written to
+ * a temporary file, then the journal is replaced by one that applies to it, and only then does it replace the old
+ * snapshot. Reading uses the temporary file when the journal applies to it, so the data stays readable whenever the
+ * application stops.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final Executor compactionExecutor;
+
+    // what the files at filePath hold, or null if unknown, in which case the next save writes a new snapshot
+    private ReadOnlyAddressBook savedAddressBook;
+    private long journalSize;
+    private boolean isCompacting;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} for the snapshot at {@code filePath}, which compacts its journal
+     * past {@link #DEFAULT_COMPACTION_THRESHOLD} bytes on a background daemon thread.
+     */
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-compactor");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} for the snapshot at {@code filePath}, which compacts its journal
+     * on {@code compactionExecutor} once it grows past {@code compactionThreshold} bytes.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThreshold, Executor compactionExecutor) {
+        requireNonNull(filePath);
+        requireNonNull(compactionExecutor);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.compactionExecutor = compactionExecutor;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that goes with the snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            awaitCompaction();
+        }
+
+        Path temporaryPath = FileUtil.getTemporaryFile(filePath);
+        Journal journal;
+        byte[] snapshotBytes = null;
+        boolean isTemporarySnapshot = false;
+        try {
+            journal = Journal.read(getJournalPath(filePath));
+            if (journal != null && Files.exists(temporaryPath)) {
+                byte[] temporaryBytes = Files.readAllBytes(temporaryPath);
+                if (checksum(temporaryBytes) == journal.snapshotChecksum) {
+                    snapshotBytes = temporaryBytes;
+                    isTemporarySnapshot = true;
+                }
+            }
+            if (snapshotBytes == null) {
+                if (!Files.exists(filePath)) {
+                    return Optional.empty();
+                }
+                snapshotBytes = Files.readAllBytes(filePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        long snapshotChecksum = checksum(snapshotBytes);
+        boolean isJournalApplicable = journal != null && journal.snapshotChecksum == snapshotChecksum;
+        if (journal != null && !isJournalApplicable) {
+            logger.warning("Ignoring journal of " + filePath + " as it does not apply to the data file");
+        }
+        if (isJournalApplicable && journal.corruption != null) {
+            // the entries after the unreadable line cannot be applied without it, and must not be discarded
+            logger.warning("Unreadable entry in the journal of " + filePath + ": " + journal.corruption);
+            throw new DataLoadingException(journal.corruption);
+        }
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            // the data file may have been saved compressed before the journal was enabled
+            byte[] snapshotJson = FileUtil.decompressIfCompressed(new ByteArrayInputStream(snapshotBytes))
+                    .readAllBytes();
+            JsonSerializableAddressBook snapshot = JsonUtil.fromJsonString(
+                    new String(snapshotJson, StandardCharsets.UTF_8), JsonSerializableAddressBook.class);
+            List<JsonAdaptedPerson> persons = new ArrayList<>(snapshot.getPersons());
+            List<JsonAdaptedTeam> teams = new ArrayList<>(snapshot.getTeams());
+            List<JsonAdaptedPosition> positions = new ArrayList<>(snapshot.getPositions());
+            if (isJournalApplicable) {
+                for (JsonAdaptedJournalEntry entry : journal.entries) {
+                    entry.applyTo(persons, teams, positions);
+                }
+            }
+            addressBook = new JsonSerializableAddressBook(persons, teams, positions).toModelType();
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (isOwnFile) {
+            recover(addressBook, isTemporarySnapshot, snapshotChecksum, isJournalApplicable ? journal : null);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Tidies the files at {@code filePath} after {@code addressBook} was read from them, so that later saves can
+     * append to the journal. If that fails, the next save writes a new snapshot instead.
+     */
+    private void recover(ReadOnlyAddressBook addressBook, boolean isTemporarySnapshot, long snapshotChecksum,
+                         Journal journal) {
+        Path temporaryPath = FileUtil.getTemporaryFile(filePath);
+        try {
+            if (isTemporarySnapshot) {
+                FileUtil.moveAtomically(temporaryPath, filePath);
+            } else {
+                Files.deleteIfExists(temporaryPath);
+            }
+
+            if (journal == null) {
+                journalSize = writeJournal(getJournalPath(filePath), snapshotChecksum, new byte[0]);
+            } else {
+                if (journal.validLength < journal.length) {
+                    // an append that was cut short leaves a last line without its newline
+                    logger.warning("Discarding an incomplete entry at the end of the journal of " + filePath);
+                    try (FileChannel channel = FileChannel.open(getJournalPath(filePath), StandardOpenOption.WRITE)) {
+                        channel.truncate(journal.validLength);
+                        channel.force(true);
+                    }
+                }
+                journalSize = journal.validLength;
+            }
+            savedAddressBook = new AddressBookSnapshot(addressBook);
+        } catch (IOException e) {
+            logger.warning("Could not prepare the journal of " + filePath + ": " + e);
+            savedAddressBook = null;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than the one of this storage writes a new snapshot there.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        ReadOnlyAddressBook snapshot = addressBook instanceof AddressBookSnapshot
+                ? addressBook
+                : new AddressBookSnapshot(addressBook);
+        if (savedAddressBook == null) {
+            awaitCompaction();
+            journalSize = writeSnapshot(snapshot, filePath);
+            savedAddressBook = snapshot;
+            return;
+        }
+
+        JsonAdaptedJournalEntry entry = JsonAdaptedJournalEntry.between(savedAddressBook, snapshot);
+        if (!entry.isEmpty()) {
+            appendToJournal(entry);
+        }
+        savedAddressBook = snapshot;
+
+        if (journalSize > compactionThreshold && !isCompacting) {
+            isCompacting = true;
+            long compactedJournalSize = journalSize;
+            compactionExecutor.execute(() -> compact(snapshot, compactedJournalSize));
+        }
+    }
+
+    /**
+     * Appends {@code entry} to the journal and forces it to the disk.
+     * If that fails, the next save writes a new snapshot instead.
+     */
+    private void appendToJournal(JsonAdaptedJournalEntry entry) throws IOException {
+        byte[] line = (JsonUtil.toCompactJsonString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(getJournalPath(filePath), StandardOpenOption.WRITE)) {
+            // writes at the end of the last complete entry, over whatever a failed append may have left
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            long position = journalSize;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            channel.truncate(position);
+            channel.force(true);
+            journalSize = position;
+        } catch (IOException e) {
+            savedAddressBook = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot, up to the journal entries appended from
+     * {@code compactedJournalSize} on, which are carried over to the new journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, long compactedJournalSize) {
+        try {
+            Path temporaryPath = FileUtil.getTemporaryFile(filePath);
+            long snapshotChecksum = writeSnapshotFile(addressBook, temporaryPath);
+
+            synchronized (this) {
+                byte[] journalBytes = Files.readAllBytes(getJournalPath(filePath));
+                byte[] remainingEntries = Arrays.copyOfRange(journalBytes, (int) compactedJournalSize,
+                        (int) journalSize);
+                journalSize = writeJournal(getJournalPath(filePath), snapshotChecksum, remainingEntries);
+                FileUtil.moveAtomically(temporaryPath, filePath);
+            }
+            logger.info("Compacted the journal of " + filePath);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Could not compact the journal of " + filePath + ": " + e);
+        } finally {
+            synchronized (this) {
+                isCompacting = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as the snapshot at {@code filePath}, with an empty journal.
+     *
+     * @return the size of the new journal.
+     */
+    private static long writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Path temporaryPath = FileUtil.getTemporaryFile(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        long snapshotChecksum = writeSnapshotFile(addressBook, temporaryPath);
+        long journalSize = writeJournal(getJournalPath(filePath), snapshotChecksum, new byte[0]);
+        FileUtil.moveAtomically(temporaryPath, filePath);
+        return journalSize;
+    }
+
+    /**
+     * Replaces the journal at {@code journalPath} with one for the snapshot with {@code snapshotChecksum}, holding
+     * the already encoded {@code entries}.
+     *
+     * @return the size of the new journal.
+     */
+    private static long writeJournal(Path journalPath, long snapshotChecksum, byte[] entries) throws IOException {
+        byte[] header = (JsonUtil.toCompactJsonString(new JournalHeader(snapshotChecksum)) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeAtomically(journalPath, out -> {
+            out.write(header);
+            out.write(entries);
+        });
+        return header.length + entries.length;
+    }
+
+    private void awaitCompaction() {
+        boolean isInterrupted = false;
+        while (isCompacting) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to the file at {@code path} and forces it to the disk.
+     *
+     * @return the checksum of the written file.
+     */
+    private static long writeSnapshotFile(ReadOnlyAddressBook addressBook, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CheckedOutputStream out = new CheckedOutputStream(Channels.newOutputStream(channel), new CRC32());
+            JsonAddressBookWriter.write(addressBook, out, true);
+            channel.force(true);
+            return out.getChecksum().getValue();
+        }
+    }
+
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    /**
+     * Jackson-friendly first line of a journal.
+     */
+    static class JournalHeader {
+        private final long snapshotChecksum;
+
+        @JsonCreator
+        JournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+
+    /**
+     * The contents of a journal file.
+     */
+    private static class Journal {
+        private final long snapshotChecksum;
+        private final List<JsonAdaptedJournalEntry> entries;
+        private final long validLength;
+        private final long length;
+        private final IOException corruption;
+
+        private Journal(long snapshotChecksum, List<JsonAdaptedJournalEntry> entries, long validLength,
+                        long length, IOException corruption) {
+            this.snapshotChecksum = snapshotChecksum;
+            this.entries = entries;
+            this.validLength = validLength;
+            this.length = length;
+            this.corruption = corruption;
+        }
+
+        /**
+         * Reads the journal at {@code journalPath}. A last line without a newline is an append that was cut short,
+         * and is left out of the entries and of the valid length. An entry that cannot be read although its line is
+         * complete is corruption, which is recorded along with the entries before it.
+         * Returns null if there is no journal or its header is incomplete.
+         *
+         * @throws DataLoadingException if the header is complete but cannot be read.
+         */
+        private static Journal read(Path journalPath) throws IOException, DataLoadingException {
+            if (!Files.exists(journalPath)) {
+                return null;
+            }
+
+            byte[] bytes = Files.readAllBytes(journalPath);
+            JournalHeader header = null;
+            List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+            int lineStart = 0;
+            while (lineStart < bytes.length) {
+                int lineEnd = lineStart;
+                while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+                if (lineEnd == bytes.length) {
+                    break;
+                }
+
+                String line = new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+                if (header == null) {
+                    try {
+                        header = JsonUtil.fromJsonString(line, JournalHeader.class);
+                    } catch (IOException e) {
+                        logger.warning("Unreadable header in " + journalPath + ": " + e);
+                        throw new DataLoadingException(e);
+                    }
+                } else {
+                    try {
+                        entries.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class));
+                    } catch (IOException e) {
+                        return new Journal(header.snapshotChecksum, entries, lineStart, bytes.length, e);
+                    }
+                }
+                lineStart = lineEnd + 1;
+            }
+
+            if (header == null) {
+                return null;
+            }
+            return new Journal(header.snapshotChecksum, entries, lineStart, bytes.length, null);
+        }
+    }
+}
@@ -42,6 +42,6 @@ class JsonAdaptedInjury {
         if (!Injury.isValidInjuryName(this.injuryName)) {
             throw new IllegalValueException(Injury.MESSAGE_CONSTRAINTS);
         }
-        return new Injury(this.injuryName);
+        return Injury.of(this.injuryName);
     }
 }
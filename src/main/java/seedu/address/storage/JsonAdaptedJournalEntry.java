@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Jackson-friendly record of the changes between two saved versions of an address book, as kept in the journal of
+ * {@link JournaledAddressBookStorage}.
+ */
+class JsonAdaptedJournalEntry {
+
+    private final List<JsonAdaptedListChange<JsonAdaptedPerson>> persons = new ArrayList<>();
+    private final List<JsonAdaptedListChange<JsonAdaptedTeam>> teams = new ArrayList<>();
+    private final List<JsonAdaptedListChange<JsonAdaptedPosition>> positions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("persons") List<JsonAdaptedListChange<JsonAdaptedPerson>> persons,
+                                   @JsonProperty("teams") List<JsonAdaptedListChange<JsonAdaptedTeam>> teams,
+                                   @JsonProperty("positions")
+                                           List<JsonAdaptedListChange<JsonAdaptedPosition>> positions) {
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (teams != null) {
+            this.teams.addAll(teams);
+        }
+        if (positions != null) {
+            this.positions.addAll(positions);
+        }
+    }
+
+    /**
+     * Returns the entry that turns {@code before} into {@code after}.
+     */
+    public static JsonAdaptedJournalEntry between(ReadOnlyAddressBook before, ReadOnlyAddressBook after) {
+        return new JsonAdaptedJournalEntry(
+                JsonAdaptedListChange.between(before.getPersonList(), after.getPersonList(), JsonAdaptedPerson::new),
+                JsonAdaptedListChange.between(before.getTeamList(), after.getTeamList(), JsonAdaptedTeam::new),
+                JsonAdaptedListChange.between(before.getPositionList(), after.getPositionList(),
+                        JsonAdaptedPosition::new));
+    }
+
+    /**
+     * Returns true if this entry does not change anything.
+     */
+    public boolean isEmpty() {
+        return persons.isEmpty() && teams.isEmpty() && positions.isEmpty();
+    }
+
+    /**
+     * Applies the changes of this entry to the given lists of an address book.
+     *
+     * @throws IllegalValueException if a change does not fit its list.
+     */
+    public void applyTo(List<JsonAdaptedPerson> personList, List<JsonAdaptedTeam> teamList,
+                        List<JsonAdaptedPosition> positionList) throws IllegalValueException {
+        for (JsonAdaptedListChange<JsonAdaptedPerson> change : persons) {
+            change.applyTo(personList);
+        }
+        for (JsonAdaptedListChange<JsonAdaptedTeam> change : teams) {
+            change.applyTo(teamList);
+        }
+        for (JsonAdaptedListChange<JsonAdaptedPosition> change : positions) {
+            change.applyTo(positionList);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly record of a change to one list of the address book: {@code removed} elements starting at index
+ * {@code from} were replaced by the elements of {@code added}.
+ *
+ * @param <T> the Jackson-friendly type of the elements of the list.
+ */
+class JsonAdaptedListChange<T> {
+
+    public static final String MESSAGE_CHANGE_OUT_OF_RANGE = "Journal change does not fit a list of %d elements.";
+
+    private final int from;
+    private final int removed;
+    private final List<T> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedListChange(@JsonProperty("from") int from, @JsonProperty("removed") int removed,
+                                 @JsonProperty("added") List<T> added) {
+        this.from = from;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Returns the changes that turn {@code before} into {@code after}, with the added elements converted by
+     * {@code adapter}. The changes are in increasing order of index and do not overlap.
+     * <p>
+     * Elements are compared by reference. Model objects are immutable and shared between snapshots of the address
+     * book, so an element that a command did not touch is the same instance in both lists.
+     */
+    public static <M, T> List<JsonAdaptedListChange<T>> between(List<M> before, List<M> after,
+                                                               Function<M, T> adapter) {
+        int prefix = 0;
+        int maxPrefix = Math.min(before.size(), after.size());
+        while (prefix < maxPrefix && before.get(prefix) == after.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix
+                && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+            suffix++;
+        }
+
+        int beforeEnd = before.size() - suffix;
+        int afterEnd = after.size() - suffix;
+        List<JsonAdaptedListChange<T>> changes = new ArrayList<>();
+        if (beforeEnd - prefix != afterEnd - prefix) {
+            changes.add(new JsonAdaptedListChange<>(prefix, beforeEnd - prefix,
+                    adapt(after.subList(prefix, afterEnd), adapter)));
+            return changes;
+        }
+
+        // same number of elements on both sides, as after an edit: record only the runs of replaced elements
+        int i = prefix;
+        while (i < beforeEnd) {
+            if (before.get(i) == after.get(i)) {
+                i++;
+                continue;
+            }
+            int runStart = i;
+            while (i < beforeEnd && before.get(i) != after.get(i)) {
+                i++;
+            }
+            changes.add(new JsonAdaptedListChange<>(runStart, i - runStart,
+                    adapt(after.subList(runStart, i), adapter)));
+        }
+        return changes;
+    }
+
+    /**
+     * Applies this change to {@code list}.
+     *
+     * @throws IllegalValueException if the change does not fit {@code list}.
+     */
+    public void applyTo(List<T> list) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > list.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_CHANGE_OUT_OF_RANGE, list.size()));
+        }
+        List<T> replaced = list.subList(from, from + removed);
+        if (removed == added.size()) {
+            for (int i = 0; i < removed; i++) {
+                replaced.set(i, added.get(i));
+            }
+        } else {
+            replaced.clear();
+            replaced.addAll(added);
+        }
+    }
+
+    private static <M, T> List<T> adapt(List<M> elements, Function<M, T> adapter) {
+        List<T> adapted = new ArrayList<>(elements.size());
+        for (M element : elements) {
+            adapted.add(adapter.apply(element));
+        }
+        return adapted;
+    }
+}
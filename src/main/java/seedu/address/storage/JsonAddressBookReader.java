@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.Team;
+import seedu.address.storage.ParallelRecordConverter.Converter;
+
+/**
+ * Reads an address book file in the format of {@link JsonSerializableAddressBook} one record at a time.
+ * <p>
+ * Persons, teams and positions are converted into model objects in batches as they are read, so neither the file
+ * contents nor the whole tree of Jackson-friendly records is ever held in memory, and memory use while loading stays
+ * close to the size of the resulting address book. A gzip-compressed file is decompressed as it is read.
+ */
+class JsonAddressBookReader {
+
+    public static final String MISSING_LIST_MESSAGE_FORMAT = "Address book's %s list is missing!";
+    public static final String MISSING_RECORD_MESSAGE_FORMAT = "Address book's %s list contains an empty record!";
+
+    private static final int BATCH_SIZE = 16 * ParallelRecordConverter.CHUNK_SIZE;
+
+    /**
+     * Reads the address book in the file at {@code filePath}, which must exist and may be gzip-compressed.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        List<Person> persons = null;
+        List<Team> teams = null;
+        List<Position> positions = new ArrayList<>();
+
+        try (JsonParser parser = JsonUtil.createParser(FileUtil.newDecompressingInputStream(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case "persons":
+                    persons = readList(parser, "persons", JsonAdaptedPerson.class, JsonAdaptedPerson::toModelType);
+                    break;
+                case "teams":
+                    teams = readList(parser, "teams", JsonAdaptedTeam.class, JsonAdaptedTeam::toModelType);
+                    break;
+                case "positions":
+                    List<Position> readPositions = readList(parser, "positions", JsonAdaptedPosition.class,
+                            JsonAdaptedPosition::toModelType);
+                    positions = readPositions != null ? readPositions : positions;
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+                }
+            }
+        }
+
+        // persons and teams must be present, as they are when read through JsonSerializableAddressBook
+        if (persons == null) {
+            throw new IllegalValueException(String.format(MISSING_LIST_MESSAGE_FORMAT, "persons"));
+        }
+        if (teams == null) {
+            throw new IllegalValueException(String.format(MISSING_LIST_MESSAGE_FORMAT, "teams"));
+        }
+        return JsonSerializableAddressBook.toAddressBook(persons, teams, positions);
+    }
+
+    /**
+     * Reads the array that {@code parser} is at, converting each of its records with {@code converter}.
+     * Records are converted in batches through {@link ParallelRecordConverter}, so at most one batch of records is
+     * held before conversion. Returns null if the array is {@code null} in the file.
+     */
+    private static <J, M> List<M> readList(JsonParser parser, String listName, Class<J> adaptedClass,
+                                           Converter<J, M> converter) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected the " + listName + " list");
+        }
+
+        List<M> models = new ArrayList<>();
+        List<J> batch = new ArrayList<>(BATCH_SIZE);
+        try {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                J adapted = parser.readValueAs(adaptedClass);
+                if (adapted == null) {
+                    throw new IllegalValueException(String.format(MISSING_RECORD_MESSAGE_FORMAT, listName));
+                }
+                batch.add(adapted);
+                if (batch.size() == BATCH_SIZE) {
+                    List<J> fullBatch = batch;
+                    batch = new ArrayList<>(BATCH_SIZE);
+                    models.addAll(ParallelRecordConverter.convert(fullBatch, converter));
+                }
+            }
+        } catch (IOException | IllegalValueException e) {
+            // an invalid record before the one that could not be read is reported first, as it would have been
+            // had every record been converted as soon as it was read
+            ParallelRecordConverter.convert(batch, converter);
+            throw e;
+        }
+        models.addAll(ParallelRecordConverter.convert(batch, converter));
+        return models;
+    }
+}
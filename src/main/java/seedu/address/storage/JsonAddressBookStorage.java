@@ -1,80 +1,80 @@
 package seedu.address.storage;
 
-import static java.util.Objects.requireNonNull;
-
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
-import java.util.Optional;
-import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
-import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Each save serializes only the persons that changed since the previous save, through a {@link JsonRecordCache}.
  */
-public class JsonAddressBookStorage implements AddressBookStorage {
+public class JsonAddressBookStorage extends FileAddressBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    private static final int COMPRESSION_BUFFER_SIZE = 1 << 16;
 
-    private Path filePath;
+    private final boolean isCompressed;
+    private final JsonRecordCache recordCache;
 
     public JsonAddressBookStorage(Path filePath) {
-        this.filePath = filePath;
-    }
-
-    public Path getAddressBookFilePath() {
-        return filePath;
+        this(filePath, true);
     }
 
-    @Override
-    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(filePath);
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}, which is indented for reading if
+     * {@code isPrettyPrinted}, or written on a single line otherwise.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, false);
     }
 
     /**
-     * Similar to {@link #readAddressBook()}.
-     *
-     * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}, which is indented as by
+     * {@link #JsonAddressBookStorage(Path, boolean)}, and gzip-compressed as it is written if {@code isCompressed}.
+     * Compressed files are decompressed as they are read whatever {@code isCompressed} is.
      */
-    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, boolean isCompressed) {
+        super(filePath);
+        this.isCompressed = isCompressed;
+        this.recordCache = new JsonRecordCache(isPrettyPrinted);
+    }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+    @Override
+    protected void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        if (!isCompressed) {
+            JsonAddressBookWriter.write(addressBook, out, recordCache);
+            return;
         }
 
+        // the stream is not closed, as that would close out as well, so its deflater is ended here instead
+        FastGzipOutputStream compressedOut = new FastGzipOutputStream(out);
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
+            JsonAddressBookWriter.write(addressBook, compressedOut, recordCache);
+            compressedOut.finish();
+        } finally {
+            compressedOut.end();
         }
     }
 
-    @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, filePath);
-    }
-
     /**
-     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
-     *
-     * @param filePath location of the data. Cannot be null.
+     * Compresses at the fastest level, as the JSON is so redundant that higher levels shrink it only a little more
+     * for several times the work.
      */
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        requireNonNull(addressBook);
-        requireNonNull(filePath);
+    private static class FastGzipOutputStream extends GZIPOutputStream {
+        private FastGzipOutputStream(OutputStream out) throws IOException {
+            super(out, COMPRESSION_BUFFER_SIZE);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        /**
+         * Frees the native memory of the deflater, after which nothing more can be written.
+         */
+        private void end() {
+            def.end();
+        }
     }
 
 }
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.Team;
+
+/**
+ * Writes an address book in the format of {@link JsonSerializableAddressBook} one record at a time.
+ * <p>
+ * Each person, team and position is converted into its Jackson-friendly record only while it is written, and the
+ * output goes through the generator's buffer straight to the stream, so saving never holds the whole document in
+ * memory.
+ */
+class JsonAddressBookWriter {
+
+    /**
+     * Writes {@code addressBook} to {@code out}, indented as {@link JsonUtil#toJsonString(Object)} does if
+     * {@code isPrettyPrinted}, or on a single line otherwise. {@code out} is flushed but left open.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isPrettyPrinted)
+            throws IOException {
+        write(addressBook, out, isPrettyPrinted, null);
+    }
+
+    /**
+     * Similar to {@link #write(ReadOnlyAddressBook, OutputStream, boolean)}, but indented as {@code recordCache}
+     * records are, and copies the persons that have not changed since the last write through {@code recordCache}
+     * from it instead of serializing them again.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out, JsonRecordCache recordCache)
+            throws IOException {
+        requireNonNull(recordCache);
+        write(addressBook, out, recordCache.isPrettyPrinted(), recordCache);
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isPrettyPrinted,
+                              JsonRecordCache recordCache) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("persons");
+            if (recordCache != null) {
+                recordCache.writePersons(addressBook.getPersonList(), generator);
+            } else {
+                for (Person person : addressBook.getPersonList()) {
+                    generator.writeObject(new JsonAdaptedPerson(person));
+                }
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("teams");
+            for (Team team : addressBook.getTeamList()) {
+                generator.writeObject(new JsonAdaptedTeam(team));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("positions");
+            for (Position position : addressBook.getPositionList()) {
+                generator.writeObject(new JsonAdaptedPosition(position));
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Remembers the JSON that each person was last saved as, so that a save only serializes the persons that changed
+ * since the previous save, and copies the rest into the file as they are.
+ * <p>
+ * Persons are immutable, and every edit replaces a person with a new object, so persons are looked up by identity
+ * and an edited person simply misses the cache. Only the persons of the last save are kept. Each record is kept both
+ * as text and as UTF-8 bytes, which the generator copies straight into its buffer, so the cache costs about twice as
+ * much memory as the JSON of the person list. Copying the bytes relies on
+ * {@link JsonGenerator#writeRawValue(com.fasterxml.jackson.core.SerializableString)}, which Jackson has had since 2.5.
+ */
+class JsonRecordCache {
+
+    private final boolean isPrettyPrinted;
+    private Map<Person, SerializedString> records = new IdentityHashMap<>();
+
+    private ByteArrayOutputStream recordOut;
+    private JsonGenerator recordGenerator;
+    private int separatorLength;
+
+    /**
+     * Creates an empty cache for records indented as by {@link JsonAddressBookWriter} if {@code isPrettyPrinted}.
+     */
+    JsonRecordCache(boolean isPrettyPrinted) {
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    boolean isPrettyPrinted() {
+        return isPrettyPrinted;
+    }
+
+    /**
+     * Writes {@code persons} as the elements of the array that {@code generator} is in, which must be the persons
+     * list of an address book. The output is the same as writing a {@link JsonAdaptedPerson} for each person.
+     */
+    synchronized void writePersons(List<Person> persons, JsonGenerator generator) throws IOException {
+        Map<Person, SerializedString> writtenRecords = new IdentityHashMap<>(persons.size());
+        for (Person person : persons) {
+            SerializedString record = records.get(person);
+            if (record == null) {
+                record = serialize(person);
+            }
+            // the generator adds the separator and indentation before the record, as for any other value
+            generator.writeRawValue(record);
+            writtenRecords.put(person, record);
+        }
+        records = writtenRecords;
+    }
+
+    /**
+     * Returns the JSON of {@code person}, indented as it is when written inside the persons list.
+     */
+    private SerializedString serialize(Person person) throws IOException {
+        if (recordGenerator == null) {
+            startRecordGenerator();
+        }
+        recordOut.reset();
+        recordGenerator.writeObject(new JsonAdaptedPerson(person));
+        recordGenerator.flush();
+        return new SerializedString(recordOut.toString(StandardCharsets.UTF_8).substring(separatorLength));
+    }
+
+    /**
+     * Creates the generator that records are serialized with, and moves it into a persons list, so that records are
+     * indented as deeply as in the file. Every record it writes then starts with the same separator between array
+     * elements, which is measured here so that it can be cut off.
+     */
+    private void startRecordGenerator() throws IOException {
+        recordOut = new ByteArrayOutputStream();
+        recordGenerator = JsonUtil.createGenerator(recordOut, isPrettyPrinted);
+        recordGenerator.writeStartObject();
+        recordGenerator.writeArrayFieldStart("persons");
+        recordGenerator.writeRawValue("");
+        recordGenerator.flush();
+        int firstElementEnd = recordOut.size();
+        recordGenerator.writeRawValue("");
+        recordGenerator.flush();
+        separatorLength = recordOut.size() - firstElementEnd;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -12,8 +13,11 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.position.Position;
+import seedu.address.model.position.exceptions.DuplicatePositionException;
 import seedu.address.model.team.Team;
+import seedu.address.model.team.exceptions.DuplicateTeamException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -56,34 +60,48 @@ class JsonSerializableAddressBook {
         positions.addAll(source.getPositionList().stream().map(JsonAdaptedPosition::new).collect(Collectors.toList()));
     }
 
+    List<JsonAdaptedPerson> getPersons() {
+        return Collections.unmodifiableList(persons);
+    }
+
+    List<JsonAdaptedTeam> getTeams() {
+        return Collections.unmodifiableList(teams);
+    }
+
+    List<JsonAdaptedPosition> getPositions() {
+        return Collections.unmodifiableList(positions);
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * All records are converted first, in parallel through {@link ParallelRecordConverter}, and then bulk-loaded, so
+     * uniqueness is checked in a single pass per list.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
+        List<Person> modelPersons = ParallelRecordConverter.convert(persons, JsonAdaptedPerson::toModelType);
+        List<Team> modelTeams = ParallelRecordConverter.convert(teams, JsonAdaptedTeam::toModelType);
+        List<Position> modelPositions = ParallelRecordConverter.convert(positions, JsonAdaptedPosition::toModelType);
+        return toAddressBook(modelPersons, modelTeams, modelPositions);
+    }
 
-        for (JsonAdaptedTeam jsonAdaptedTeam : teams) {
-            Team team = jsonAdaptedTeam.toModelType();
-            if (addressBook.hasTeam(team)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TEAM);
-            }
-            addressBook.addTeam(team);
-        }
-        for (JsonAdaptedPosition jsonAdaptedPosition : positions) {
-            Position position = jsonAdaptedPosition.toModelType();
-            if (addressBook.hasPosition(position)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_POSITION);
-            }
-            addressBook.addPosition(position);
+    /**
+     * Returns an {@code AddressBook} holding the given lists, which are loaded as they are.
+     *
+     * @throws IllegalValueException if a list contains duplicates.
+     */
+    static AddressBook toAddressBook(List<Person> persons, List<Team> teams, List<Position> positions)
+            throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setData(persons, teams, positions);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        } catch (DuplicateTeamException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TEAM);
+        } catch (DuplicatePositionException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_POSITION);
         }
         return addressBook;
     }
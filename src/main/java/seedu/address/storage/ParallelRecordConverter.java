@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts lists of Jackson-friendly records into model objects, validating chunks of the list on all the threads of
+ * the common fork/join pool.
+ * <p>
+ * Conversion fails with the exception of the first invalid record in the list, exactly as converting the records
+ * one by one would, however the chunks happen to be scheduled. Converters must therefore be safe to call from
+ * several threads at once, which the model's value objects and their interners are.
+ */
+class ParallelRecordConverter {
+
+    /** Lists up to this size are converted on the calling thread, as are chunks of larger lists. */
+    static final int CHUNK_SIZE = 1024;
+
+    /**
+     * Returns the model objects converted from {@code records} by {@code converter}, in the same order.
+     *
+     * @throws IllegalValueException of the first record in {@code records} that {@code converter} rejects.
+     */
+    static <J, M> List<M> convert(List<J> records, Converter<J, M> converter) throws IllegalValueException {
+        if (records.size() <= CHUNK_SIZE) {
+            List<M> models = new ArrayList<>(records.size());
+            for (J record : records) {
+                models.add(converter.toModelType(record));
+            }
+            return models;
+        }
+
+        Conversion<J, M> conversion = new Conversion<>(records, converter);
+        conversion.run();
+        for (IllegalValueException failure : conversion.chunkFailures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        List<M> models = (List<M>) Arrays.asList(conversion.models);
+        return models;
+    }
+
+    /**
+     * Converts a Jackson-friendly record into its model object.
+     */
+    @FunctionalInterface
+    interface Converter<J, M> {
+        M toModelType(J adapted) throws IllegalValueException;
+    }
+
+    /**
+     * Holds the results of converting one list, whose chunks are converted as separate tasks.
+     */
+    private static class Conversion<J, M> {
+        private final List<J> records;
+        private final Converter<J, M> converter;
+        private final Object[] models;
+        private final IllegalValueException[] chunkFailures;
+        private final AtomicInteger firstFailedChunk = new AtomicInteger(Integer.MAX_VALUE);
+
+        private Conversion(List<J> records, Converter<J, M> converter) {
+            this.records = records;
+            this.converter = converter;
+            this.models = new Object[records.size()];
+            this.chunkFailures = new IllegalValueException[(records.size() + CHUNK_SIZE - 1) / CHUNK_SIZE];
+        }
+
+        private void run() {
+            ForkJoinPool.commonPool().invoke(new ChunkRange(0, chunkFailures.length));
+        }
+
+        /**
+         * Converts the chunks from {@code fromChunk} (inclusive) to {@code toChunk} (exclusive).
+         */
+        private class ChunkRange extends RecursiveAction {
+            private final int fromChunk;
+            private final int toChunk;
+
+            private ChunkRange(int fromChunk, int toChunk) {
+                this.fromChunk = fromChunk;
+                this.toChunk = toChunk;
+            }
+
+            @Override
+            protected void compute() {
+                if (toChunk - fromChunk > 1) {
+                    int middle = (fromChunk + toChunk) >>> 1;
+                    invokeAll(new ChunkRange(fromChunk, middle), new ChunkRange(middle, toChunk));
+                    return;
+                }
+
+                // a failure in an earlier chunk already decides the outcome
+                if (fromChunk > firstFailedChunk.get()) {
+                    return;
+                }
+                int end = Math.min(records.size(), (fromChunk + 1) * CHUNK_SIZE);
+                try {
+                    for (int i = fromChunk * CHUNK_SIZE; i < end; i++) {
+                        models[i] = converter.toModelType(records.get(i));
+                    }
+                } catch (IllegalValueException e) {
+                    chunkFailures[fromChunk] = e;
+                    firstFailedChunk.accumulateAndGet(fromChunk, Math::min);
+                }
+            }
+        }
+    }
+}
@@ -1,34 +1,119 @@
 package seedu.address.ui;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Pressing Tab completes the command typed so far: a single completion replaces the text, and several extend it as
+ * far as they agree, after which further presses cycle through them.
+ * <p>
+ * Commands run in the background. The command box is cleared as soon as a command is entered, so the next one can be
+ * typed while it runs, and shows a busy state until every command entered has completed. A command that fails is put
+ * back in the command box, unless something else has been typed there since.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
+    public static final String BUSY_PROMPT_TEXT = "Running...";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandCompletionProvider completionProvider;
+
+    // the completions being cycled through, and the text that the last press of Tab left in the command box
+    private List<String> completions = Collections.emptyList();
+    private int completionIndex;
+    private String completedText;
+    private int runningCommandCount;
+    private String idlePromptText;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandCompletionProvider}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompletionProvider completionProvider) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.completionProvider = completionProvider;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // Tab would otherwise move the focus out of the command box
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                handleCompletionRequested();
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Handles the Tab button pressed event.
+     */
+    private void handleCompletionRequested() {
+        if (runningCommandCount > 0) {
+            // completions are read from the model, which a running command may be changing
+            return;
+        }
+        String commandText = commandTextField.getText();
+        if (commandText.equals(completedText) && !completions.isEmpty()) {
+            completionIndex = (completionIndex + 1) % completions.size();
+            showCompletion(completions.get(completionIndex));
+            return;
+        }
+
+        completions = completionProvider.complete(commandText);
+        if (completions.isEmpty()) {
+            return;
+        }
+        if (completions.size() == 1) {
+            // the next press completes the next part of the command instead
+            showCompletion(completions.get(0));
+            completions = Collections.emptyList();
+            return;
+        }
+        String sharedText = commonPrefix(completions);
+        if (sharedText.length() > commandText.length()) {
+            // the next press starts cycling from the first completion
+            completionIndex = -1;
+            showCompletion(sharedText);
+        } else {
+            completionIndex = 0;
+            showCompletion(completions.get(0));
+        }
+    }
+
+    private void showCompletion(String text) {
+        commandTextField.setText(text);
+        commandTextField.positionCaret(text.length());
+        completedText = text;
+    }
+
+    /**
+     * Returns the longest text that all of {@code texts} start with.
+     */
+    private static String commonPrefix(List<String> texts) {
+        String prefix = texts.get(0);
+        for (String text : texts) {
+            int length = 0;
+            while (length < prefix.length() && length < text.length() && prefix.charAt(length) == text.charAt(length)) {
+                length++;
+            }
+            prefix = prefix.substring(0, length);
+        }
+        return prefix;
     }
 
     /**
@@ -41,11 +126,31 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        commandTextField.setText("");
+        setBusy(runningCommandCount + 1);
+        commandExecutor.execute(commandText, result -> setBusy(runningCommandCount - 1), failure -> {
+            setBusy(runningCommandCount - 1);
+            if (commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+                commandTextField.positionCaret(commandText.length());
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Records that {@code count} commands are running, and shows the busy state if there are any.
+     */
+    private void setBusy(int count) {
+        boolean wasBusy = runningCommandCount > 0;
+        runningCommandCount = count;
+        if (!wasBusy && count > 0) {
+            idlePromptText = commandTextField.getPromptText();
+            commandTextField.setPromptText(BUSY_PROMPT_TEXT);
+            commandTextField.getStyleClass().add(BUSY_STYLE_CLASS);
+        } else if (wasBusy && count == 0) {
+            commandTextField.setPromptText(idlePromptText);
+            commandTextField.getStyleClass().remove(BUSY_STYLE_CLASS);
         }
     }
 
@@ -70,16 +175,30 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Represents a function that can execute commands.
+     * Represents a function that can execute commands in the background.
      */
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command after the ones before it, then gives its result to {@code resultHandler}, or the
+         * exception it failed with to {@code failureHandler}, on the UI thread.
+         *
+         * @see seedu.address.logic.CommandQueue#submit(String, Consumer, Consumer)
+         */
+        void execute(String commandText, Consumer<CommandResult> resultHandler, Consumer<Exception> failureHandler);
+    }
+
+    /**
+     * Represents a function that can complete partly typed commands.
+     */
+    @FunctionalInterface
+    public interface CommandCompletionProvider {
+        /**
+         * Returns the completions of the command typed so far.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#completeCommand(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        List<String> complete(String commandText);
     }
 
 }
@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -13,6 +16,7 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandQueue;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -25,11 +29,13 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_UNEXPECTED_FAILURE = "An unexpected error occurred: %1$s";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandQueue commandQueue;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -63,14 +69,16 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane positionListPanelPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, whose commands are executed by
+     * {@code commandQueue}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandQueue commandQueue) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandQueue = commandQueue;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -122,13 +130,14 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        // the panels show copies published by the command queue, since the model's lists change on its worker thread
+        personListPanel = new PersonListPanel(commandQueue.getPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        teamListPanel = new TeamListPanel(logic.getFilteredTeamList());
+        teamListPanel = new TeamListPanel(commandQueue.getTeamList());
         teamListPanelPlaceholder.getChildren().add(teamListPanel.getRoot());
 
-        positionListPanel = new PositionListPanel(logic.getFilteredPositionList());
+        positionListPanel = new PositionListPanel(commandQueue.getPositionList());
         positionListPanelPlaceholder.getChildren().add(positionListPanel.getRoot());
 
         // Initially show persons, hide teams
@@ -136,11 +145,13 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        // saves fail in the background, after the command that requested them has already shown its result
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::completeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -179,7 +190,8 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        // the model may be changing on the command worker, and preferences are saved once it has finished
+        commandQueue.submitGuiSettings(guiSettings);
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -189,13 +201,16 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background, then shows its result and gives it to {@code resultHandler}, or shows
+     * the error it failed with and gives that to {@code failureHandler}. The handlers are called first, so the command
+     * box is no longer busy with the command even if showing its outcome fails.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see CommandQueue#submit(String, Consumer, Consumer)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private void executeCommand(String commandText, Consumer<CommandResult> resultHandler,
+                                Consumer<Exception> failureHandler) {
+        commandQueue.submit(commandText, commandResult -> {
+            resultHandler.accept(commandResult);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -214,13 +229,24 @@ public class MainWindow extends UiPart<Stage> {
             } else if (commandResult.isShowPositions()) {
                 showPositionsView();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+        }, e -> {
+            failureHandler.accept(e);
             logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            resultDisplay.setFeedbackToUser(getFailureMessage(e));
+        });
+    }
+
+    /**
+     * Returns the message to show for {@code failure}. Only the messages of {@code CommandException} and
+     * {@code ParseException} are meant for the user, and other exceptions may have no message at all, so they are
+     * named instead, or the error they wrap is.
+     */
+    private static String getFailureMessage(Exception failure) {
+        if (failure instanceof CommandException || failure instanceof ParseException) {
+            return failure.getMessage();
         }
+        Throwable cause = failure instanceof ExecutionException ? failure.getCause() : failure;
+        return String.format(MESSAGE_UNEXPECTED_FAILURE, cause.getClass().getSimpleName());
     }
 
     private void showTeamsView() {
@@ -0,0 +1,106 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class CompactSetTest {
+
+    private final CompactSet<String> set = CompactSet.copyOf(List.of("ACL", "MCL", "Concussion"));
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CompactSet.copyOf(null));
+        assertThrows(NullPointerException.class, () -> CompactSet.copyOf(Arrays.asList("ACL", null)));
+    }
+
+    @Test
+    public void copyOf_duplicates_keepsDistinctElements() {
+        CompactSet<String> copy = CompactSet.copyOf(List.of("ACL", "MCL", "ACL"));
+        assertEquals(2, copy.size());
+        assertEquals(Set.of("ACL", "MCL"), copy);
+    }
+
+    @Test
+    public void copyOf_compactSet_returnsSameSet() {
+        assertSame(set, CompactSet.copyOf(set));
+    }
+
+    @Test
+    public void copyOf_emptyCollection_returnsEmptySet() {
+        assertSame(CompactSet.of(), CompactSet.copyOf(new HashSet<String>()));
+    }
+
+    @Test
+    public void iterator_sameElementsInDifferentOrder_sameOrder() {
+        CompactSet<String> reversed = CompactSet.copyOf(List.of("Concussion", "MCL", "ACL"));
+        assertEquals(new ArrayList<>(set), new ArrayList<>(reversed));
+        assertEquals(set.toString(), reversed.toString());
+    }
+
+    @Test
+    public void with_newElement_returnsLargerSet() {
+        CompactSet<String> larger = set.with("Sprain");
+        assertEquals(4, larger.size());
+        assertTrue(larger.contains("Sprain"));
+        assertFalse(set.contains("Sprain"));
+        assertEquals(new ArrayList<>(CompactSet.copyOf(List.of("Sprain", "ACL", "MCL", "Concussion"))),
+                new ArrayList<>(larger));
+    }
+
+    @Test
+    public void with_existingElement_returnsSameSet() {
+        assertSame(set, set.with("ACL"));
+    }
+
+    @Test
+    public void without_existingElement_returnsSmallerSet() {
+        CompactSet<String> smaller = set.without("MCL");
+        assertEquals(Set.of("ACL", "Concussion"), smaller);
+        assertSame(CompactSet.of(), CompactSet.of("ACL").without("ACL"));
+    }
+
+    @Test
+    public void without_missingElement_returnsSameSet() {
+        assertSame(set, set.without("Sprain"));
+        assertSame(set, set.without(null));
+    }
+
+    @Test
+    public void mutators_throwUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> set.add("Sprain"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("Sprain"));
+        assertThrows(UnsupportedOperationException.class, () -> set.addAll(List.of("Sprain")));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeAll(List.of("ACL")));
+        assertThrows(UnsupportedOperationException.class, () -> set.retainAll(List.of("ACL")));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(unused -> true));
+        assertThrows(UnsupportedOperationException.class, set::clear);
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+
+    @Test
+    public void equals() {
+        // same elements -> returns true
+        assertEquals(Set.of("ACL", "MCL", "Concussion"), set);
+        assertEquals(set, new HashSet<>(List.of("ACL", "MCL", "Concussion")));
+        assertEquals(set, CompactSet.copyOf(List.of("MCL", "Concussion", "ACL")));
+
+        // different elements -> returns false
+        assertNotEquals(set, set.without("ACL"));
+        assertNotEquals(set, Set.of("ACL"));
+
+        // same hash code as other sets with the same elements
+        assertEquals(new HashSet<>(set).hashCode(), set.hashCode());
+    }
+}
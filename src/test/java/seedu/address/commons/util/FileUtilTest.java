@@ -1,13 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +32,55 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_success() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.writeAtomically(file, out -> out.write("new".getBytes("UTF-8")));
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTemporaryFile(file)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes("UTF-8"));
+            throw new IOException("disk full");
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void newDecompressingInputStream_plainFile_readAsIs() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "plain");
+        try (InputStream in = FileUtil.newDecompressingInputStream(file)) {
+            assertEquals("plain", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        // files too short to hold the magic bytes
+        FileUtil.writeToFile(file, "");
+        try (InputStream in = FileUtil.newDecompressingInputStream(file)) {
+            assertEquals(0, in.readAllBytes().length);
+        }
+        FileUtil.writeToFile(file, "a");
+        try (InputStream in = FileUtil.newDecompressingInputStream(file)) {
+            assertEquals("a", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void newDecompressingInputStream_compressedFile_decompressed() throws Exception {
+        Path file = testFolder.resolve("file.txt.gz");
+        FileUtil.writeAtomically(file, out -> {
+            GZIPOutputStream compressedOut = new GZIPOutputStream(out);
+            compressedOut.write("compressed".getBytes(StandardCharsets.UTF_8));
+            compressedOut.finish();
+        });
+        try (InputStream in = FileUtil.newDecompressingInputStream(file)) {
+            assertEquals("compressed", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final AtomicInteger creations = new AtomicInteger();
+    private final Interner<StringBuilder> interner = new Interner<>(name -> {
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        creations.incrementAndGet();
+        return new StringBuilder(name);
+    });
+
+    @Test
+    public void constructor_nullFactory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<>(null));
+    }
+
+    @Test
+    public void intern_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_sameName_returnsSameInstance() {
+        StringBuilder first = interner.intern("U12");
+        assertSame(first, interner.intern("U12"));
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    public void intern_differentName_returnsDifferentInstance() {
+        assertNotSame(interner.intern("U12"), interner.intern("u12"));
+        assertEquals(2, creations.get());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingStored() {
+        assertThrows(IllegalArgumentException.class, () -> interner.intern(""));
+        assertThrows(IllegalArgumentException.class, () -> interner.intern(""));
+        assertEquals(0, creations.get());
+    }
+}
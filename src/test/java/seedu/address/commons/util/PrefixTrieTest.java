@@ -0,0 +1,99 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @BeforeEach
+    public void setUp() {
+        trie.add("Benson Meier");
+        trie.add("Alice Pauline");
+        trie.add("alex Yeo");
+        trie.add("Alice");
+    }
+
+    @Test
+    public void add_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.add(null));
+    }
+
+    @Test
+    public void startingWith_prefix_returnsMatchesInOrderIgnoringCase() {
+        assertEquals(List.of("alex Yeo", "Alice", "Alice Pauline"), trie.startingWith("AL", 10));
+        assertEquals(List.of("Alice", "Alice Pauline"), trie.startingWith("alice", 10));
+        assertEquals(List.of("Alice Pauline"), trie.startingWith("alice p", 10));
+        assertTrue(trie.startingWith("Carl", 10).isEmpty());
+    }
+
+    @Test
+    public void startingWith_emptyPrefix_returnsEveryString() {
+        assertEquals(List.of("alex Yeo", "Alice", "Alice Pauline", "Benson Meier"), trie.startingWith("", 10));
+    }
+
+    @Test
+    public void startingWith_limit_returnsFirstMatchesOnly() {
+        assertEquals(List.of("alex Yeo", "Alice"), trie.startingWith("a", 2));
+        assertTrue(trie.startingWith("a", 0).isEmpty());
+    }
+
+    @Test
+    public void forEachStartingWith_prefix_appliesToEveryMatchInOrder() {
+        List<String> strings = new ArrayList<>();
+        trie.forEachStartingWith("AL", strings::add);
+        assertEquals(List.of("alex Yeo", "Alice", "Alice Pauline"), strings);
+    }
+
+    @Test
+    public void forEachWithin_maxDistance_appliesToStringsWithinDistanceIgnoringCase() {
+        List<String> strings = new ArrayList<>();
+        trie.forEachWithin("ALISE", 1, strings::add);
+        assertEquals(List.of("Alice"), strings);
+
+        strings.clear();
+        trie.forEachWithin("alice", 0, strings::add);
+        assertEquals(List.of("Alice"), strings);
+
+        strings.clear();
+        trie.forEachWithin("benson meir", 1, strings::add);
+        assertEquals(List.of("Benson Meier"), strings);
+    }
+
+    @Test
+    public void add_sameStringDifferentCase_keepsFirstCasingAndCounts() {
+        trie.add("ALICE");
+        assertEquals(4, trie.size());
+        assertEquals(List.of("Alice", "Alice Pauline"), trie.startingWith("alice", 10));
+
+        // removed only once every occurrence has been removed
+        trie.remove("alice");
+        assertEquals(List.of("Alice", "Alice Pauline"), trie.startingWith("alice", 10));
+        trie.remove("Alice");
+        assertEquals(List.of("Alice Pauline"), trie.startingWith("alice", 10));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    public void remove_absentString_changesNothing() {
+        trie.remove("Alic");
+        trie.remove("Carl Kurz");
+        assertEquals(4, trie.size());
+        assertEquals(List.of("alex Yeo", "Alice", "Alice Pauline"), trie.startingWith("a", 10));
+    }
+
+    @Test
+    public void clear_removesEveryString() {
+        trie.clear();
+        assertEquals(0, trie.size());
+        assertTrue(trie.startingWith("", 10).isEmpty());
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -140,4 +143,70 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_equalExactlyWhenEqualIgnoringCase() {
+        // already folded -> same instance
+        String folded = "abc 123";
+        assertSame(folded, StringUtil.foldCase(folded));
+        assertEquals("", StringUtil.foldCase(""));
+
+        assertEquals("abc def", StringUtil.foldCase("ABc DEF"));
+        assertEquals(StringUtil.foldCase("aBc"), StringUtil.foldCase("AbC"));
+        assertFalse(StringUtil.foldCase("abc").equals(StringUtil.foldCase("abd")));
+
+        // characters that String#equalsIgnoreCase matches only through both cases
+        assertTrue("k".equalsIgnoreCase("\u212A"));
+        assertEquals(StringUtil.foldCase("k"), StringUtil.foldCase("\u212A"));
+    }
+
+    //---------------- Tests for splitWords --------------------------------------
+
+    //---------------- Tests for isWithinEditDistance --------------------------------------
+
+    @Test
+    public void isWithinEditDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isWithinEditDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.isWithinEditDistance("abc", null, 1));
+    }
+
+    @Test
+    public void isWithinEditDistance_validInputs_correctResult() {
+        assertTrue(StringUtil.isWithinEditDistance("", "", 0));
+        assertTrue(StringUtil.isWithinEditDistance("john", "john", 0));
+        assertFalse(StringUtil.isWithinEditDistance("", "ab", 1));
+
+        // one substitution, insertion or deletion
+        assertTrue(StringUtil.isWithinEditDistance("jahn", "john", 1));
+        assertTrue(StringUtil.isWithinEditDistance("jon", "john", 1));
+        assertTrue(StringUtil.isWithinEditDistance("johnn", "john", 1));
+
+        // a transposition is two edits
+        assertFalse(StringUtil.isWithinEditDistance("jonh", "john", 1));
+        assertTrue(StringUtil.isWithinEditDistance("jonh", "john", 2));
+
+        // lengths too far apart
+        assertFalse(StringUtil.isWithinEditDistance("jo", "johnny", 3));
+    }
+
+    @Test
+    public void splitWords_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.splitWords(null));
+    }
+
+    @Test
+    public void splitWords_validInputs_correctResult() {
+        assertArrayEquals(new String[0], StringUtil.splitWords(""));
+        assertArrayEquals(new String[0], StringUtil.splitWords("   "));
+        assertArrayEquals(new String[] {"abc"}, StringUtil.splitWords("abc"));
+        assertArrayEquals(new String[] {"ABc", "def"}, StringUtil.splitWords("ABc def"));
+        assertArrayEquals(new String[] {"ABc", "def", "g"}, StringUtil.splitWords("  ABc \t def  g "));
+    }
 }
@@ -0,0 +1,124 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.StorageManagerStub;
+
+public class AddressBookSaverTest {
+
+    private final RecordingStorage storage = new RecordingStorage();
+    private final List<Runnable> queuedTasks = new ArrayList<>();
+    private final List<String> failures = new ArrayList<>();
+
+    @Test
+    public void requestSave_whileSaveQueued_savesLatestSnapshotOnce() {
+        AddressBookSaver saver = new AddressBookSaver(storage, queuedTasks::add, failures::add);
+        AddressBook first = new AddressBook();
+        AddressBook second = getTypicalAddressBook();
+
+        saver.requestSave(first, 1);
+        saver.requestSave(second, 2);
+        assertEquals(1, queuedTasks.size());
+
+        queuedTasks.remove(0).run();
+        assertEquals(List.of(second), storage.saved);
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    public void requestSave_afterSaveCompleted_queuesNewSave() {
+        AddressBookSaver saver = new AddressBookSaver(storage, queuedTasks::add, failures::add);
+        saver.requestSave(new AddressBook(), 1);
+        queuedTasks.remove(0).run();
+
+        saver.requestSave(getTypicalAddressBook(), 2);
+        assertEquals(1, queuedTasks.size());
+    }
+
+    @Test
+    public void requestSave_storageThrowsIoException_reportsFailure() {
+        storage.failure = new IOException("disk full");
+        AddressBookSaver saver = new AddressBookSaver(storage, Runnable::run, failures::add);
+
+        saver.requestSave(new AddressBook(), 1);
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, "disk full")), failures);
+    }
+
+    @Test
+    public void requestSave_storageThrowsAccessDeniedException_reportsPermissionFailure() {
+        storage.failure = new AccessDeniedException("playbook.json");
+        AddressBookSaver saver = new AddressBookSaver(storage, Runnable::run, failures::add);
+
+        saver.requestSave(new AddressBook(), 1);
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, "playbook.json")),
+                failures);
+    }
+
+    @Test
+    public void flush_backgroundExecutor_waitsForSave() {
+        AddressBookSaver saver = new AddressBookSaver(storage, AddressBookSaver.createBackgroundExecutor(),
+                failures::add);
+        ReadOnlyAddressBook addressBook = getTypicalAddressBook();
+
+        saver.requestSave(addressBook, 1);
+        saver.flush();
+        assertSame(addressBook, storage.saved.get(storage.saved.size() - 1));
+    }
+
+    @Test
+    public void isSaveNeeded_pendingOrSavedVersion_returnsFalse() {
+        AddressBookSaver saver = new AddressBookSaver(storage, queuedTasks::add, failures::add);
+        assertTrue(saver.isSaveNeeded(1));
+
+        saver.requestSave(new AddressBook(), 1);
+        assertFalse(saver.isSaveNeeded(1));
+        assertTrue(saver.isSaveNeeded(2));
+
+        queuedTasks.remove(0).run();
+        assertFalse(saver.isSaveNeeded(1));
+        assertTrue(saver.isSaveNeeded(2));
+    }
+
+    @Test
+    public void isSaveNeeded_afterFailedSave_returnsTrue() {
+        storage.failure = new IOException("disk full");
+        AddressBookSaver saver = new AddressBookSaver(storage, Runnable::run, failures::add);
+        saver.requestSave(new AddressBook(), 1);
+        assertTrue(saver.isSaveNeeded(1));
+
+        storage.failure = null;
+        saver.requestSave(new AddressBook(), 1);
+        assertFalse(saver.isSaveNeeded(1));
+    }
+
+    /**
+     * A storage that records the address books it is asked to save, or fails to save them.
+     */
+    private static class RecordingStorage extends StorageManagerStub {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private IOException failure;
+
+        @Override
+        public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(addressBook);
+        }
+    }
+}
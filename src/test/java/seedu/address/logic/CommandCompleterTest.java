@@ -0,0 +1,67 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.position.Position;
+import seedu.address.testutil.PersonBuilder;
+
+public class CommandCompleterTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final CommandCompleter completer = new CommandCompleter(model);
+
+    @Test
+    public void complete_partialCommandWord_returnsCommandWords() {
+        assertEquals(List.of("assigncaptain ", "assigninjury ", "assignposition ", "assignteam "),
+                completer.complete("assign"));
+        assertEquals(List.of("filter ", "find "), completer.complete("fi"));
+        assertTrue(completer.complete("xyz").isEmpty());
+    }
+
+    @Test
+    public void complete_partialPlayerName_returnsPlayerNames() {
+        assertEquals(List.of("assignteam pl/Alice Pauline "), completer.complete("assignteam pl/al"));
+        assertEquals(List.of("delete pl/Daniel Meier "), completer.complete("delete pl/daniel m"));
+    }
+
+    @Test
+    public void complete_valueAfterLastPrefix_returnsValuesOfThatPrefix() {
+        assertEquals(List.of("assignteam pl/Alice Pauline tm/U12 ", "assignteam pl/Alice Pauline tm/U16 "),
+                completer.complete("assignteam pl/Alice Pauline tm/u"));
+        assertEquals(List.of("filter i/ACL ", "filter i/Ankle sprain "), completer.complete("filter i/a"));
+    }
+
+    @Test
+    public void complete_partialPrefix_returnsPrefixesOfCommand() {
+        assertEquals(List.of("assignteam pl/Alice Pauline tm/"),
+                completer.complete("assignteam pl/Alice Pauline tm"));
+        assertEquals(List.of("filter tm/", "filter i/", "filter ps/"), completer.complete("filter "));
+        assertEquals(List.of("add pl/", "add p/"), completer.complete("add p"));
+    }
+
+    @Test
+    public void complete_noCompletion_returnsEmptyList() {
+        assertTrue(completer.complete("list ").isEmpty());
+        assertTrue(completer.complete("unknown pl/Al").isEmpty());
+        assertTrue(completer.complete("add pl/Al p/").isEmpty());
+    }
+
+    @Test
+    public void complete_afterModelChanges_returnsCurrentNames() {
+        assertEquals(List.of("assignposition pl/Alice Pauline "), completer.complete("assignposition pl/Alice"));
+        model.addPerson(new PersonBuilder().withName("Alicia Tan").withTeam("U12").build());
+        model.addPosition(new Position("GK"));
+        assertEquals(List.of("assignposition pl/Alice Pauline ", "assignposition pl/Alicia Tan "),
+                completer.complete("assignposition pl/Ali"));
+        assertEquals(List.of("assignposition ps/GK "), completer.complete("assignposition ps/g"));
+    }
+}
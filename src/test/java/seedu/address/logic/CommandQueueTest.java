@@ -0,0 +1,166 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.StorageManagerStub;
+
+public class CommandQueueTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Logic logic = new LogicManager(model, new StorageManagerStub(), Runnable::run);
+    private final List<Runnable> commandTasks = new ArrayList<>();
+    private final List<Runnable> uiTasks = new ArrayList<>();
+    private final List<String> outcomes = new ArrayList<>();
+
+    @Test
+    public void constructor_copiesModelLists() {
+        CommandQueue commandQueue = new CommandQueue(logic, commandTasks::add, uiTasks::add);
+        assertEquals(model.getFilteredPersonList(), commandQueue.getPersonList());
+        assertEquals(model.getFilteredTeamList(), commandQueue.getTeamList());
+        assertEquals(model.getFilteredPositionList(), commandQueue.getPositionList());
+    }
+
+    @Test
+    public void submit_validCommand_publishesListsBeforeHandingOverResult() {
+        CommandQueue commandQueue = new CommandQueue(logic, commandTasks::add, uiTasks::add);
+        List<Person> shownPersons = new ArrayList<>();
+        commandQueue.submit("find Alice", result -> shownPersons.addAll(commandQueue.getPersonList()),
+                failure -> outcomes.add(failure.getMessage()));
+
+        commandTasks.remove(0).run();
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+        // the UI sees no change until the UI executor runs
+        assertEquals(getTypicalAddressBook().getPersonList(), commandQueue.getPersonList());
+
+        uiTasks.remove(0).run();
+        assertEquals(List.of(ALICE), shownPersons);
+        assertTrue(outcomes.isEmpty());
+    }
+
+    @Test
+    public void submit_severalCommands_handsOverResultsInOrderAfterLatestLists() {
+        CommandQueue commandQueue = new CommandQueue(logic, commandTasks::add, uiTasks::add);
+        List<List<Person>> shownPersons = new ArrayList<>();
+        for (String commandText : List.of("find Alice", "unknowncommand", ListCommand.COMMAND_WORD)) {
+            commandQueue.submit(commandText, result -> {
+                outcomes.add(result.getFeedbackToUser());
+                shownPersons.add(new ArrayList<>(commandQueue.getPersonList()));
+            }, failure -> outcomes.add(failure.getMessage()));
+        }
+
+        commandTasks.forEach(Runnable::run);
+        assertEquals(3, uiTasks.size());
+        uiTasks.forEach(Runnable::run);
+
+        assertEquals(List.of(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 1), MESSAGE_UNKNOWN_COMMAND,
+                ListCommand.MESSAGE_SUCCESS), outcomes);
+        // the lists left by the last command are published in one batch, before the first result
+        List<Person> allPersons = getTypicalAddressBook().getPersonList();
+        assertEquals(List.of(allPersons, allPersons), shownPersons);
+    }
+
+    @Test
+    public void submit_changesBeforeAndAfterEachOther_publishesMergedChange() {
+        CommandQueue commandQueue = new CommandQueue(logic, commandTasks::add, uiTasks::add);
+        for (String commandText : List.of("delete pl/Daniel Meier", "delete pl/Benson Meier", "delete pl/George Best",
+                "find Carl Fiona")) {
+            commandQueue.submit(commandText, result -> { }, failure -> outcomes.add(failure.getMessage()));
+        }
+
+        commandTasks.forEach(Runnable::run);
+        uiTasks.remove(0).run();
+        assertEquals(model.getFilteredPersonList(), commandQueue.getPersonList());
+        assertEquals(List.of(CARL, FIONA), commandQueue.getPersonList());
+        assertTrue(outcomes.isEmpty());
+    }
+
+    @Test
+    public void submit_commandsPublishedOneByOne_publishesEachChange() {
+        CommandQueue commandQueue = new CommandQueue(logic, Runnable::run, Runnable::run);
+        for (String commandText : List.of("delete pl/Daniel Meier", "find Carl Fiona", ListCommand.COMMAND_WORD,
+                "delete pl/Alice Pauline")) {
+            commandQueue.submit(commandText, result -> { }, failure -> outcomes.add(failure.getMessage()));
+            assertEquals(model.getFilteredPersonList(), commandQueue.getPersonList());
+        }
+        assertTrue(outcomes.isEmpty());
+    }
+
+    @Test
+    public void submit_invalidCommand_handsOverParseException() {
+        CommandQueue commandQueue = new CommandQueue(logic, Runnable::run, Runnable::run);
+        List<Exception> failures = new ArrayList<>();
+        commandQueue.submit("unknowncommand", result -> outcomes.add(result.getFeedbackToUser()), failures::add);
+
+        assertTrue(outcomes.isEmpty());
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, failures.get(0).getMessage());
+    }
+
+    @Test
+    public void submit_commandThrowsError_handsOverFailureAndFinishes() {
+        Model failingModel = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public void updateFilteredPersonList(Predicate<Person> predicate) {
+                throw new AssertionError();
+            }
+        };
+        Logic failingLogic = new LogicManager(failingModel, new StorageManagerStub(), Runnable::run);
+        CommandQueue commandQueue = new CommandQueue(failingLogic, Runnable::run, uiTasks::add);
+        List<Exception> failures = new ArrayList<>();
+        commandQueue.submit(ListCommand.COMMAND_WORD, result -> outcomes.add(result.getFeedbackToUser()),
+                failures::add);
+
+        commandQueue.flush();
+        assertEquals(1, uiTasks.size());
+        uiTasks.remove(0).run();
+        assertTrue(outcomes.isEmpty());
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof ExecutionException);
+        assertTrue(failures.get(0).getCause() instanceof AssertionError);
+    }
+
+    @Test
+    public void submitGuiSettings_setsSettingsOnCommandExecutor() {
+        CommandQueue commandQueue = new CommandQueue(logic, commandTasks::add, uiTasks::add);
+        GuiSettings guiSettings = new GuiSettings(800, 600, 10, 20);
+        commandQueue.submitGuiSettings(guiSettings);
+        assertEquals(new GuiSettings(), model.getGuiSettings());
+
+        commandTasks.remove(0).run();
+        assertEquals(guiSettings, model.getGuiSettings());
+        commandQueue.flush();
+        assertTrue(uiTasks.isEmpty());
+    }
+
+    @Test
+    public void flush_backgroundExecutor_waitsForCommands() {
+        CommandQueue commandQueue = new CommandQueue(logic, CommandQueue.createBackgroundExecutor(), uiTasks::add);
+        commandQueue.submit("find Alice", result -> { }, failure -> { });
+        commandQueue.submit("delete pl/Alice Pauline", result -> { }, failure -> { });
+
+        commandQueue.flush();
+        assertEquals(2, uiTasks.size());
+        assertTrue(model.getAddressBook().getPersonList().stream().noneMatch(ALICE::isSamePerson));
+    }
+}
@@ -11,6 +11,7 @@ import static seedu.address.testutil.TypicalTeams.U12;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -49,7 +50,8 @@ public class LogicManagerTest {
                 temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        // save inline so that storage errors are reported by the command that caused them
+        logic = new LogicManager(model, storage, Runnable::run);
     }
 
     @Test
@@ -71,14 +73,74 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_backgroundSave_savedAfterFlush() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("backgroundAddressBook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath);
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        logic.execute(AddTeamCommand.COMMAND_WORD + TEAM_NAME_DESC_12);
+        logic.flushSaves();
+
+        ReadOnlyAddressBook savedAddressBook = addressBookStorage.readAddressBook().get();
+        assertEquals(List.of(new TeamBuilder(U12).build()), savedAddressBook.getTeamList());
+    }
+
+    @Test
+    public void execute_readOnlyCommands_savedOnlyOnce() throws Exception {
+        List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        logic = new LogicManager(model, new StorageManagerStub() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                savedAddressBooks.add(addressBook);
+            }
+        }, Runnable::run);
+
+        logic.execute(HelpCommand.COMMAND_WORD);
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(1, savedAddressBooks.size());
+
+        logic.execute(AddTeamCommand.COMMAND_WORD + TEAM_NAME_DESC_12);
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(2, savedAddressBooks.size());
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterFailedSave_savesAgain() throws Exception {
+        FailingStorage storage = new FailingStorage();
+        logic = new LogicManager(model, storage, Runnable::run);
+
+        logic.execute(AddTeamCommand.COMMAND_WORD + TEAM_NAME_DESC_12);
+        storage.isFailing = false;
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(1, storage.saved.size());
+        assertEquals(List.of(new TeamBuilder(U12).build()), storage.saved.get(0).getTeamList());
+
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void flushSaves_lastSaveFailed_savesAgain() throws Exception {
+        FailingStorage storage = new FailingStorage();
+        logic = new LogicManager(model, storage, Runnable::run);
+
+        logic.execute(AddTeamCommand.COMMAND_WORD + TEAM_NAME_DESC_12);
+        storage.isFailing = false;
+        logic.flushSaves();
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
@@ -166,9 +228,9 @@ public class LogicManagerTest {
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be given to the save failure handler
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureForExceptionFromStorage(IOException e, String expectedMessage) throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -184,13 +246,33 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Runnable::run);
+        List<String> saveFailures = new ArrayList<>();
+        logic.setSaveFailureHandler(saveFailures::add);
         ModelManager expectedModel = new ModelManager();
 
-        // Add a team first to avoid team not found error
+        // the command itself succeeds, as it has already changed the model
         String addTeamCommand = AddTeamCommand.COMMAND_WORD + TEAM_NAME_DESC_12;
         Team expectedTeam = new TeamBuilder(U12).build();
         expectedModel.addTeam(expectedTeam);
-        assertCommandFailure(addTeamCommand, CommandException.class, expectedMessage, expectedModel);
+        String expectedResult = String.format(AddTeamCommand.MESSAGE_SUCCESS, Messages.format(expectedTeam));
+        assertCommandSuccess(addTeamCommand, expectedResult, expectedModel);
+        assertEquals(List.of(expectedMessage), saveFailures);
+    }
+
+    /**
+     * A storage that fails to save until told otherwise, and records the address books it saves.
+     */
+    private static class FailingStorage extends StorageManagerStub {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private boolean isFailing = true;
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (isFailing) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            saved.add(addressBook);
+        }
     }
 }
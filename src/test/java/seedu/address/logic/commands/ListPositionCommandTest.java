@@ -4,6 +4,8 @@ import static seedu.address.logic.Messages.MESSAGE_NO_POSITIONS;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_POSITION_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.position.Position;
+import seedu.address.testutil.PersonBuilder;
 
 public class ListPositionCommandTest {
 
@@ -42,7 +45,24 @@ public class ListPositionCommandTest {
         Model expectedSinglePositionModel = new ModelManager(new AddressBook(), new UserPrefs());
         expectedSinglePositionModel.addPosition(new Position(VALID_POSITION_BOB));
 
-        assertCommandSuccess(new ListPositionCommand(), singlePositionModel,
-                ListPositionCommand.MESSAGE_SUCCESS, expectedSinglePositionModel);
+        String expectedMessage = ListPositionCommand.MESSAGE_SUCCESS + "\n"
+                + String.format(ListPositionCommand.MESSAGE_PLAYERS_PER_POSITION,
+                String.format(ListPositionCommand.MESSAGE_POSITION_PLAYER_COUNT, VALID_POSITION_BOB, 0));
+        assertCommandSuccess(new ListPositionCommand(), singlePositionModel, expectedMessage,
+                expectedSinglePositionModel);
+    }
+
+    @Test
+    public void execute_assignedPositions_showsPlayerCounts() {
+        Model positionModel = new ModelManager(new AddressBook(), new UserPrefs());
+        positionModel.addPosition(new Position("GK"));
+        positionModel.addPosition(new Position("ST"));
+        positionModel.addPerson(new PersonBuilder(ALICE).withPosition("ST").build());
+        positionModel.addPerson(new PersonBuilder(BENSON).withPosition("ST").build());
+        Model expectedPositionModel = new ModelManager(positionModel.getAddressBook(), new UserPrefs());
+
+        String expectedMessage = ListPositionCommand.MESSAGE_SUCCESS + "\n"
+                + String.format(ListPositionCommand.MESSAGE_PLAYERS_PER_POSITION, "GK (0), ST (2)");
+        assertCommandSuccess(new ListPositionCommand(), positionModel, expectedMessage, expectedPositionModel);
     }
 }
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameMatchMode;
 
 public class FindCommandParserTest {
 
@@ -31,6 +32,34 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_matchMode_returnsFindCommandWithMode() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Ali", "Bo"), NameMatchMode.PREFIX));
+        assertParseSuccess(parser, " m/prefix Ali Bo", expectedFindCommand);
+        assertParseSuccess(parser, " Ali Bo m/PREFIX", expectedFindCommand);
+        assertParseSuccess(parser, " Ali m/prefix Bo", expectedFindCommand);
+
+        expectedFindCommand = new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alcie"), NameMatchMode.FUZZY));
+        assertParseSuccess(parser, " m/fuzzy Alcie", expectedFindCommand);
+
+        expectedFindCommand = new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        assertParseSuccess(parser, " m/word Alice", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidMatchMode_throwsParseException() {
+        assertParseFailure(parser, " m/exact Alice", FindCommand.MESSAGE_INVALID_MATCH_MODE);
+        assertParseFailure(parser, " Alice m/", FindCommand.MESSAGE_INVALID_MATCH_MODE);
+    }
+
+    @Test
+    public void parse_matchModeWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " m/prefix",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_duplicateKeywords_throwsParseException() {
         // Single duplicate
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -16,6 +17,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,6 +26,8 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.position.Position;
+import seedu.address.model.position.exceptions.DuplicatePositionException;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.exceptions.DuplicateTeamException;
 import seedu.address.model.team.exceptions.TeamNotEmptyException;
@@ -72,6 +77,56 @@ public class AddressBookTest {
         assertThrows(DuplicateTeamException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void setData_validLists_replacesData() {
+        Position position = new Position("FW");
+        addressBook.setData(Arrays.asList(ALICE, BENSON), Arrays.asList(U12, U16), Arrays.asList(position));
+        assertEquals(Arrays.asList(ALICE, BENSON), addressBook.getPersonList());
+        assertEquals(Arrays.asList(U12, U16), addressBook.getTeamList());
+        assertEquals(Arrays.asList(position), addressBook.getPositionList());
+        assertEquals(BENSON, addressBook.getPersonByName(BENSON.getName()));
+    }
+
+    @Test
+    public void setData_duplicatePositions_throwsDuplicatePositionException() {
+        List<Position> positions = Arrays.asList(new Position("FW"), new Position("fw"));
+        assertThrows(DuplicatePositionException.class, () ->
+                addressBook.setData(Collections.emptyList(), Collections.emptyList(), positions));
+    }
+
+    @Test
+    public void getVersion_afterEachModification_changes() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addTeam(U12);
+        long versionAfterAddTeam = addressBook.getVersion();
+        assertNotEquals(initialVersion, versionAfterAddTeam);
+
+        addressBook.addPerson(ALICE);
+        long versionAfterAddPerson = addressBook.getVersion();
+        assertNotEquals(versionAfterAddTeam, versionAfterAddPerson);
+
+        addressBook.setPerson(ALICE, BENSON);
+        long versionAfterSetPerson = addressBook.getVersion();
+        assertNotEquals(versionAfterAddPerson, versionAfterSetPerson);
+
+        addressBook.removePerson(BENSON);
+        long versionAfterRemovePerson = addressBook.getVersion();
+        assertNotEquals(versionAfterSetPerson, versionAfterRemovePerson);
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertNotEquals(versionAfterRemovePerson, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_afterQueries_unchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(BENSON);
+        addressBook.getTeamMembers(U12);
+        addressBook.selectCaptains();
+        assertEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -148,6 +203,70 @@ public class AddressBookTest {
         assertTrue(addressBook.isTeamEmpty(U16));
     }
 
+    @Test
+    public void isTeamEmpty_lastPersonReassigned_returnsTrue() {
+        addressBook.addTeam(U12);
+        addressBook.addTeam(U16);
+        addressBook.addPerson(ALICE); // ALICE is in U12
+        addressBook.assignTeam(ALICE, U16);
+        assertTrue(addressBook.isTeamEmpty(U12));
+        assertFalse(addressBook.isTeamEmpty(U16));
+    }
+
+    @Test
+    public void isTeamEmpty_lastPersonRemoved_returnsTrue() {
+        addressBook.addTeam(U12);
+        addressBook.addPerson(ALICE); // ALICE is in U12
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.isTeamEmpty(U12));
+    }
+
+    @Test
+    public void getTeamMembers_afterEditingPerson_returnsEditedPerson() {
+        addressBook.addPerson(ALICE); // ALICE is in U12
+        addressBook.addPerson(BENSON); // BENSON is in U12
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(editedAlice, BENSON), addressBook.getTeamMembers(U12));
+        assertEquals(Collections.emptySet(), addressBook.getTeamMembers(U16));
+    }
+
+    @Test
+    public void getTeamPlayerCount_personsAddedAndRemoved_tracksCount() {
+        addressBook.addPerson(ALICE); // ALICE is in U12
+        addressBook.addPerson(BENSON); // BENSON is in U12
+        assertEquals(2, addressBook.getTeamPlayerCount(U12));
+        addressBook.removePerson(BENSON);
+        assertEquals(1, addressBook.getTeamPlayerCount(U12));
+        assertEquals(0, addressBook.getTeamPlayerCount(U16));
+    }
+
+    @Test
+    public void isPositionAssigned_positionOfPerson_returnsTrue() {
+        Person aliceAsForward = new PersonBuilder(ALICE).withPosition("FW").build();
+        addressBook.addPerson(aliceAsForward);
+        assertTrue(addressBook.isPositionAssigned(new Position("fw")));
+        assertFalse(addressBook.isPositionAssigned(new Position("GK")));
+    }
+
+    @Test
+    public void isPositionAssigned_lastPlayerMovedToOtherPosition_returnsFalse() {
+        Person aliceAsForward = new PersonBuilder(ALICE).withPosition("FW").build();
+        Person aliceAsKeeper = new PersonBuilder(ALICE).withPosition("GK").build();
+        addressBook.addPerson(aliceAsForward);
+        addressBook.setPerson(aliceAsForward, aliceAsKeeper);
+        assertFalse(addressBook.isPositionAssigned(new Position("FW")));
+        assertEquals(1, addressBook.getPositionPlayerCount(new Position("GK")));
+    }
+
+    @Test
+    public void getPlayerCountByPosition_afterSetPersons_countsEveryPosition() {
+        Person aliceAsForward = new PersonBuilder(ALICE).withPosition("FW").build();
+        Person bensonAsForward = new PersonBuilder(BENSON).withPosition("FW").build();
+        addressBook.setPersons(Arrays.asList(aliceAsForward, bensonAsForward));
+        assertEquals(Map.of(new Position("FW"), 2), addressBook.getPlayerCountByPosition());
+    }
+
     @Test
     public void deleteTeam_nullTeam_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.deleteTeam(null));
@@ -168,6 +287,26 @@ public class AddressBookTest {
         assertThrows(TeamNotEmptyException.class, () -> addressBook.deleteTeam(U12));
     }
 
+    @Test
+    public void getCompletions_afterChanges_returnsCurrentNames() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        assertEquals(List.of("ACL"), typicalAddressBook.getCompletions(CompletionField.INJURY, "ac", 10));
+
+        // an injury stays until no person has it
+        Person bensonWithAcl = new PersonBuilder(BENSON).withInjuries("acl").build();
+        typicalAddressBook.setPerson(BENSON, bensonWithAcl);
+        assertEquals(List.of(), typicalAddressBook.getCompletions(CompletionField.INJURY, "broken", 10));
+        typicalAddressBook.removePerson(ALICE);
+        assertEquals(List.of("ACL"), typicalAddressBook.getCompletions(CompletionField.INJURY, "ac", 10));
+        assertEquals(List.of(), typicalAddressBook.getCompletions(CompletionField.PERSON, "alice", 10));
+
+        typicalAddressBook.addTeam(new Team("U18"));
+        assertEquals(List.of("U12", "U16", "U18"), typicalAddressBook.getCompletions(CompletionField.TEAM, "u1", 10));
+        typicalAddressBook.setData(List.of(ALICE), List.of(U12), List.of());
+        assertEquals(List.of("U12"), typicalAddressBook.getCompletions(CompletionField.TEAM, "", 10));
+        assertEquals(List.of("Alice Pauline"), typicalAddressBook.getCompletions(CompletionField.PERSON, "", 10));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +20,19 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFormat(null));
+    }
+
+    @Test
+    public void equals_differentAddressBookFormat_returnsFalse() {
+        UserPrefs userPrefs = new UserPrefs();
+        UserPrefs binaryUserPrefs = new UserPrefs();
+        binaryUserPrefs.setAddressBookFormat(AddressBookFormat.BINARY);
+        assertFalse(userPrefs.equals(binaryUserPrefs));
+        assertEquals(binaryUserPrefs, new UserPrefs(binaryUserPrefs));
+    }
+
 }
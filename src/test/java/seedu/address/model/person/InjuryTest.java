@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -9,6 +10,12 @@ import org.junit.jupiter.api.Test;
 
 public class InjuryTest {
 
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Injury.of("ACL"), Injury.of("ACL"));
+        assertSame(Injury.DEFAULT_INJURY_STATUS, Injury.of("FIT"));
+    }
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Injury(null));
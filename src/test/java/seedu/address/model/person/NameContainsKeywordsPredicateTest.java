@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -74,12 +75,62 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void constructor_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NameContainsKeywordsPredicate(List.of("Alice", " ")));
+        assertThrows(IllegalArgumentException.class, () -> new NameContainsKeywordsPredicate(List.of("Alice Bob")));
+    }
+
+    @Test
+    public void test_nameWithExtraSpaces_returnsTrue() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of(" bob "));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice  Bob ").build()));
+    }
+
+    @Test
+    public void test_prefixMode_matchesStartOfWord() {
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(List.of("AL", "car"), NameMatchMode.PREFIX);
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob Carol").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Hal Scar").build()));
+    }
+
+    @Test
+    public void test_fuzzyMode_matchesWordsWithinAFewTypos() {
+        // one typo allowed in a keyword of up to 5 characters
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(List.of("Alcie"), NameMatchMode.FUZZY);
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        predicate = new NameContainsKeywordsPredicate(List.of("Alce"), NameMatchMode.FUZZY);
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // two typos allowed in longer keywords
+        predicate = new NameContainsKeywordsPredicate(List.of("Pualine"), NameMatchMode.FUZZY);
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Pauline").build()));
+
+        // no typos allowed in keywords of up to 2 characters
+        predicate = new NameContainsKeywordsPredicate(List.of("Bo"), NameMatchMode.FUZZY);
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bo Yang").build()));
+    }
+
+    @Test
+    public void equals_differentMatchMode_returnsFalse() {
+        List<String> keywords = List.of("first");
+        assertFalse(new NameContainsKeywordsPredicate(keywords)
+                .equals(new NameContainsKeywordsPredicate(keywords, NameMatchMode.PREFIX)));
+        assertTrue(new NameContainsKeywordsPredicate(keywords)
+                .equals(new NameContainsKeywordsPredicate(keywords, NameMatchMode.WORD)));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
 
-        String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords
+                + ", matchMode=" + NameMatchMode.WORD + "}";
         assertEquals(expected, predicate.toString());
     }
 }
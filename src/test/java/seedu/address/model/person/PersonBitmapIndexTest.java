@@ -0,0 +1,156 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonBitmapIndexTest {
+
+    private static final Predicate<Person> NEVER = unused -> false;
+    private static final Predicate<Person> ALWAYS = unused -> true;
+
+    private final Person forwardInU12 = new PersonBuilder().withName("Alice Pauline").withTeam("U12")
+            .withPosition("FW").build();
+    private final Person injuredKeeperInU12 = new PersonBuilder().withName("Benson Meier").withTeam("U12")
+            .withPosition("GK").withInjuries("ACL").build();
+    private final Person captainInU16 = new PersonBuilder().withName("Carl Kurz").withTeam("U16")
+            .withPosition("FW").withCaptain(true).build();
+
+    private final PersonBitmapIndex index = new PersonBitmapIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(forwardInU12);
+        index.add(injuredKeeperInU12);
+        index.add(captainInU16);
+    }
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void select_teamOnly_matchesTeamMembersCaseInsensitively() {
+        Predicate<Person> selection = index.select("u12", "", "", NEVER);
+        assertTrue(selection.test(forwardInU12));
+        assertTrue(selection.test(injuredKeeperInU12));
+        assertFalse(selection.test(captainInU16));
+    }
+
+    @Test
+    public void select_turkishDefaultLocale_matchesTeamIgnoringCase() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            Person tiger = new PersonBuilder().withName("Daniel Meier").withTeam("TIGERS").build();
+            index.add(tiger);
+            assertTrue(index.select("tigers", "", "", NEVER).test(tiger));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void select_teamAndPosition_matchesIntersection() {
+        Predicate<Person> selection = index.select("U12", "", "FW", NEVER);
+        assertTrue(selection.test(forwardInU12));
+        assertFalse(selection.test(injuredKeeperInU12));
+        assertFalse(selection.test(captainInU16));
+    }
+
+    @Test
+    public void select_unknownInjury_matchesNoPerson() {
+        Predicate<Person> selection = index.select("", "Concussion", "", ALWAYS);
+        assertFalse(selection.test(forwardInU12));
+        assertFalse(selection.test(injuredKeeperInU12));
+        assertFalse(selection.test(captainInU16));
+    }
+
+    @Test
+    public void select_personsTestedOutOfOrder_matchesSamePersons() {
+        Predicate<Person> selection = index.select("U16", "", "", ALWAYS);
+        assertTrue(selection.test(captainInU16));
+        assertFalse(selection.test(injuredKeeperInU12));
+        assertFalse(selection.test(forwardInU12));
+        assertTrue(selection.test(captainInU16));
+    }
+
+    @Test
+    public void select_personAddedAfterSelection_usesFallback() {
+        Predicate<Person> selection = index.select("U16", "", "", person -> person.getTeam().getName().equals("U16"));
+        Person addedToU16 = new PersonBuilder().withName("Daniel Meier").withTeam("U16").build();
+        index.add(addedToU16);
+        assertTrue(selection.test(addedToU16));
+        assertFalse(selection.test(forwardInU12));
+    }
+
+    @Test
+    public void selectInjured_matchesPersonsWithNonDefaultInjury() {
+        Predicate<Person> selection = index.selectInjured(NEVER);
+        assertFalse(selection.test(forwardInU12));
+        assertTrue(selection.test(injuredKeeperInU12));
+        assertFalse(selection.test(captainInU16));
+    }
+
+    @Test
+    public void selectCaptains_matchesCaptains() {
+        Predicate<Person> selection = index.selectCaptains(NEVER);
+        assertFalse(selection.test(forwardInU12));
+        assertFalse(selection.test(injuredKeeperInU12));
+        assertTrue(selection.test(captainInU16));
+    }
+
+    @Test
+    public void selectCaptains_personEditedAfterSelection_usesFallback() {
+        Predicate<Person> selection = index.selectCaptains(Person::isCaptain);
+        Person newCaptain = forwardInU12.withCaptain(true);
+        index.set(forwardInU12, newCaptain);
+        assertTrue(selection.test(newCaptain));
+        assertTrue(selection.test(captainInU16));
+        assertFalse(selection.test(injuredKeeperInU12));
+    }
+
+    @Test
+    public void select_afterRemove_matchesRemainingPersons() {
+        index.remove(forwardInU12);
+        Predicate<Person> selection = index.select("", "", "FW", ALWAYS);
+        assertFalse(selection.test(injuredKeeperInU12));
+        assertTrue(selection.test(captainInU16));
+    }
+
+    @Test
+    public void add_afterRemove_reusesSlotWithoutKeepingRemovedBits() {
+        index.remove(injuredKeeperInU12);
+        Person forwardInU16 = new PersonBuilder().withName("Daniel Meier").withTeam("U16").withPosition("FW").build();
+        index.add(forwardInU16);
+        assertFalse(index.select("", "ACL", "", NEVER).test(forwardInU16));
+        assertTrue(index.select("U16", "", "FW", NEVER).test(forwardInU16));
+        assertFalse(index.select("U12", "", "", NEVER).test(forwardInU16));
+    }
+
+    @Test
+    public void selectPersons_matchesGivenPersonsOnly() {
+        Predicate<Person> selection = index.selectPersons(List.of(captainInU16), ALWAYS);
+        assertTrue(selection.test(captainInU16));
+        assertFalse(selection.test(forwardInU12));
+    }
+
+    @Test
+    public void selectCaptains_afterSetAll_matchesNewPersons() {
+        List<Person> newPersons = List.of(captainInU16, forwardInU12);
+        index.setAll(newPersons);
+        Predicate<Person> selection = index.selectCaptains(ALWAYS);
+        assertTrue(selection.test(captainInU16));
+        assertFalse(selection.test(forwardInU12));
+    }
+}
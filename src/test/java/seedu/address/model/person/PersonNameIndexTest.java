@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonNameIndexTest {
+
+    private final Person alicePauline = new PersonBuilder().withName("Alice Pauline").build();
+    private final Person aliceMeier = new PersonBuilder().withName("ALICE Meier").build();
+    private final Person carlCarl = new PersonBuilder().withName("Carl carl").build();
+
+    private final PersonNameIndex index = new PersonNameIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.setAll(List.of(alicePauline, aliceMeier, carlCarl));
+    }
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getNames_sharedWord_returnsEveryNameCaseInsensitively() {
+        assertEquals(List.of(alicePauline.getName(), aliceMeier.getName()), index.getNames("alice"));
+        assertEquals(List.of(aliceMeier.getName()), index.getNames("meier"));
+    }
+
+    @Test
+    public void getNames_wordRepeatedInName_returnsNameOnce() {
+        assertEquals(List.of(carlCarl.getName()), index.getNames("carl"));
+    }
+
+    @Test
+    public void getNames_partialWord_returnsNoName() {
+        assertTrue(index.getNames("ali").isEmpty());
+    }
+
+    @Test
+    public void remove_person_unindexesOnlyTheirName() {
+        index.remove(alicePauline);
+        assertEquals(List.of(aliceMeier.getName()), index.getNames("alice"));
+        assertTrue(index.getNames("pauline").isEmpty());
+    }
+
+    @Test
+    public void set_renamedPerson_reindexesName() {
+        Person renamed = new PersonBuilder(alicePauline).withName("Bob Pauline").build();
+        index.set(alicePauline, renamed);
+        assertEquals(List.of(aliceMeier.getName()), index.getNames("alice"));
+        assertEquals(List.of(renamed.getName()), index.getNames("bob"));
+        assertEquals(List.of(renamed.getName()), index.getNames("pauline"));
+    }
+
+    @Test
+    public void getNamesWithPrefix_sharedPrefix_returnsEveryMatchingName() {
+        assertEquals(List.of(alicePauline.getName(), aliceMeier.getName()), index.getNamesWithPrefix("ali"));
+        assertEquals(List.of(aliceMeier.getName()), index.getNamesWithPrefix("meier"));
+        assertTrue(index.getNamesWithPrefix("bob").isEmpty());
+    }
+
+    @Test
+    public void getNamesWithin_typos_returnsNamesWithinDistance() {
+        assertEquals(List.of(aliceMeier.getName()), index.getNamesWithin("meir", 1));
+        assertEquals(List.of(alicePauline.getName()), index.getNamesWithin("pualine", 2));
+        assertTrue(index.getNamesWithin("pualine", 1).isEmpty());
+        assertEquals(List.of(carlCarl.getName()), index.getNamesWithin("carl", 0));
+    }
+
+    @Test
+    public void getNamesWithPrefix_afterRemove_omitsRemovedWords() {
+        index.remove(alicePauline);
+        index.remove(aliceMeier);
+        assertTrue(index.getNamesWithPrefix("a").isEmpty());
+        assertTrue(index.getNamesWithin("alice", 1).isEmpty());
+        assertEquals(List.of(carlCarl.getName()), index.getNamesWithPrefix(""));
+    }
+
+    @Test
+    public void getNames_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> index.getNames("alice").clear());
+    }
+}
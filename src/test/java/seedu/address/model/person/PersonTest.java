@@ -110,6 +110,17 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        // same values, different case in name -> same hash code
+        Person aliceCopy = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertEquals(ALICE, aliceCopy);
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+
+        // copy made by a with* method -> same hash code
+        assertEquals(ALICE.hashCode(), ALICE.withCaptain(ALICE.isCaptain()).hashCode());
+    }
+
     @Test
     public void withTeam_newTeam_returnsPersonWithNewTeam() {
         // Create a person with original team
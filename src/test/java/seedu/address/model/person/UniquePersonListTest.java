@@ -8,11 +8,14 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalTeams.U16;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -128,6 +131,32 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_earlierPerson_laterPersonsStillFoundByName() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        assertEquals(BOB, uniquePersonList.getPersonByName(BOB.getName()));
+        assertEquals(CARL, uniquePersonList.getPersonByName(CARL.getName()));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getPersonByName(ALICE.getName()));
+    }
+
+    @Test
+    public void getPersonByName_differentCase_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        Name upperCaseName = new Name(ALICE.getName().fullName.toUpperCase());
+        assertEquals(ALICE, uniquePersonList.getPersonByName(upperCaseName));
+    }
+
+    @Test
+    public void getPersonByName_afterRenamingSetPerson_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(BOB, uniquePersonList.getPersonByName(BOB.getName()));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -195,6 +224,29 @@ public class UniquePersonListTest {
                 -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void selectByName_listInOrder_matchesAnyKeywordInListOrder() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        Predicate<Person> selection = uniquePersonList.selectByName(
+                new NameContainsKeywordsPredicate(Arrays.asList("kurz", "ALICE")));
+        List<Person> matches = uniquePersonList.asUnmodifiableObservableList().stream()
+                .filter(selection).collect(Collectors.toList());
+        assertEquals(Arrays.asList(ALICE, CARL), matches);
+    }
+
+    @Test
+    public void selectByName_afterRemoveAndEdit_matchesCurrentNames() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        uniquePersonList.remove(ALICE);
+        Person renamedBob = new PersonBuilder(BOB).withName("Bob Kurz").build();
+        uniquePersonList.setPerson(BOB, renamedBob);
+        Predicate<Person> selection = uniquePersonList.selectByName(
+                new NameContainsKeywordsPredicate(Arrays.asList("Kurz", "Alice")));
+        List<Person> matches = uniquePersonList.asUnmodifiableObservableList().stream()
+                .filter(selection).collect(Collectors.toList());
+        assertEquals(Arrays.asList(renamedBob, CARL), matches);
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
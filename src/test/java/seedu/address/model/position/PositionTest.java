@@ -2,6 +2,7 @@ package seedu.address.model.position;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -9,6 +10,12 @@ import org.junit.jupiter.api.Test;
 
 public class PositionTest {
 
+    @Test
+    public void of_sameTrimmedName_returnsSameInstance() {
+        assertSame(Position.of("LW"), Position.of("  LW "));
+        assertSame(Position.DEFAULT_POSITION, Position.of("NONE"));
+    }
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Position(null));
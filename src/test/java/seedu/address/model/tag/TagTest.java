@@ -1,11 +1,17 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
 
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Tag.of("friends"), Tag.of("friends"));
+    }
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Tag(null));
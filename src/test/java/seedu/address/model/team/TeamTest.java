@@ -2,6 +2,7 @@ package seedu.address.model.team;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalTeams.U12;
 import static seedu.address.testutil.TypicalTeams.U16;
@@ -12,6 +13,11 @@ import seedu.address.testutil.TeamBuilder;
 
 public class TeamTest {
 
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Team.of("U12"), Team.of("U12"));
+    }
+
     @Test
     public void isSameTeam() {
         // same object -> returns true
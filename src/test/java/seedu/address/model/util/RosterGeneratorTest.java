@@ -0,0 +1,72 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Injury;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.Team;
+
+public class RosterGeneratorTest {
+
+    @Test
+    public void withPlayers_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RosterGenerator().withPlayers(-1));
+    }
+
+    @Test
+    public void withInjuryRate_outOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RosterGenerator().withInjuryRate(1.5));
+    }
+
+    @Test
+    public void generate_configuredSizes_success() {
+        AddressBook addressBook = new RosterGenerator().withPlayers(500).withTeams(7).withPositions(12).generate();
+        assertEquals(500, addressBook.getPersonList().size());
+        assertEquals(7, addressBook.getTeamList().size());
+        assertEquals(12, addressBook.getPositionList().size());
+        assertTrue(addressBook.hasPosition(Position.of("POS12")));
+    }
+
+    @Test
+    public void generate_sameSeed_sameAddressBook() {
+        assertEquals(new RosterGenerator(42).withPlayers(200).generate(),
+                new RosterGenerator(42).withPlayers(200).generate());
+        assertNotEquals(new RosterGenerator(42).withPlayers(200).generate(),
+                new RosterGenerator(43).withPlayers(200).generate());
+    }
+
+    @Test
+    public void generate_oneCaptainPerTeam() {
+        AddressBook addressBook = new RosterGenerator().withPlayers(300).withTeams(5).generate();
+        for (Team team : addressBook.getTeamList()) {
+            long captainCount = addressBook.getPersonList().stream()
+                    .filter(person -> person.getTeam().equals(team) && person.isCaptain())
+                    .count();
+            assertEquals(1, captainCount);
+        }
+    }
+
+    @Test
+    public void generate_injuryRate_roughlyRespected() {
+        AddressBook addressBook = new RosterGenerator().withPlayers(2000).withInjuryRate(0.25).generate();
+        long injuredCount = addressBook.getPersonList().stream()
+                .filter(person -> person.getInjuries().size() > 1
+                        || !person.getInjuries().contains(Injury.DEFAULT_INJURY_STATUS))
+                .count();
+        assertTrue(injuredCount > 400 && injuredCount < 600);
+    }
+
+    @Test
+    public void generatePerson_matchesGeneratedRoster() {
+        RosterGenerator generator = new RosterGenerator().withPlayers(50);
+        Person person = generator.generate().getPersonList().get(30);
+        assertEquals(person, generator.generatePerson(30));
+    }
+}
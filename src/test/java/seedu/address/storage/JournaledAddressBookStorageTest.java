@@ -0,0 +1,248 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class JournaledAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = createStorage(testFolder.resolve("AddressBook.json"), Long.MAX_VALUE);
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("NonExistentFile.json");
+        assertFalse(createStorage(filePath, Long.MAX_VALUE).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> createStorage(filePath, Long.MAX_VALUE).readAddressBook());
+    }
+
+    @Test
+    public void read_invalidPersonAddressBook_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> createStorage(filePath, Long.MAX_VALUE).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+
+        // first save writes the snapshot
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        assertEquals(original, new AddressBook(createStorage(filePath, Long.MAX_VALUE).readAddressBook().get()));
+
+        // later saves only append to the journal
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        Person editedIda = IDA.withCaptain(!IDA.isCaptain());
+        original.addPerson(IDA);
+        original.setPerson(IDA, editedIda);
+        storage.saveAddressBook(original);
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(3, readJournalLines(filePath).length);
+        assertEquals(original, new AddressBook(createStorage(filePath, Long.MAX_VALUE).readAddressBook().get()));
+
+        // the snapshot stays readable without the journal
+        ReadOnlyAddressBook snapshotOnly = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(snapshotOnly));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(1, readJournalLines(filePath).length);
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entryDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        createStorage(filePath, Long.MAX_VALUE).saveAddressBook(original);
+        Files.write(JournaledAddressBookStorage.getJournalPath(filePath),
+                "{\"persons\":[{\"from\":0".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // the next entry replaces the incomplete one
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(2, readJournalLines(filePath).length);
+        assertEquals(original, new AddressBook(createStorage(filePath, Long.MAX_VALUE).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_unreadableEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        String[] lines = readJournalLines(filePath);
+        lines[1] = "{\"persons\":[{\"from\":0";
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        Files.write(journalPath, (String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8));
+        byte[] corruptJournal = Files.readAllBytes(journalPath);
+
+        assertThrows(DataLoadingException.class, () -> createStorage(filePath, Long.MAX_VALUE).readAddressBook());
+        // the entries after the unreadable one are kept
+        assertArrayEquals(corruptJournal, Files.readAllBytes(journalPath));
+    }
+
+    @Test
+    public void readAddressBook_unreadableHeader_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        createStorage(filePath, Long.MAX_VALUE).saveAddressBook(getTypicalAddressBook());
+        Files.write(JournaledAddressBookStorage.getJournalPath(filePath),
+                "not a header\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataLoadingException.class, () -> createStorage(filePath, Long.MAX_VALUE).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the data file is replaced behind the storage's back
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(createStorage(filePath, Long.MAX_VALUE).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_compressedDataFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath, true, true).saveAddressBook(original);
+
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(createStorage(filePath, Long.MAX_VALUE).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage(filePath, 1);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, readJournalLines(filePath).length);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(createStorage(filePath, 1).readAddressBook().get()));
+
+        // saves carry on appending to the new journal
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(createStorage(filePath, 1).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_stoppedBeforeSnapshotReplaced_newSnapshotUsed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path temporaryPath = testFolder.resolve("TempAddressBook.json.tmp");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage(filePath, 1);
+        storage.saveAddressBook(original);
+        byte[] oldSnapshot = Files.readAllBytes(filePath);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // as if compaction stopped after replacing the journal, but before replacing the snapshot
+        Files.move(filePath, temporaryPath);
+        Files.write(filePath, oldSnapshot);
+
+        assertEquals(original, new AddressBook(createStorage(filePath, 1).readAddressBook().get()));
+        assertFalse(Files.exists(temporaryPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(filePath));
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalPath(otherFilePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = createStorage(testFolder.resolve("AddressBook.json"), Long.MAX_VALUE);
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = createStorage(testFolder.resolve("AddressBook.json"), Long.MAX_VALUE);
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(new AddressBook(), null));
+    }
+
+    /**
+     * Returns a storage for {@code filePath} that compacts its journal synchronously.
+     */
+    private JournaledAddressBookStorage createStorage(Path filePath, long compactionThreshold) {
+        return new JournaledAddressBookStorage(filePath, compactionThreshold, Runnable::run);
+    }
+
+    private String[] readJournalLines(Path filePath) throws Exception {
+        return Files.readString(JournaledAddressBookStorage.getJournalPath(filePath)).split("\n");
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class JsonAdaptedListChangeTest {
+
+    private static final List<String> BEFORE = Arrays.asList("a", "b", "c", "d", "e");
+
+    @Test
+    public void between_sameElements_noChanges() {
+        assertTrue(JsonAdaptedListChange.between(BEFORE, new ArrayList<>(BEFORE), Function.identity()).isEmpty());
+    }
+
+    @Test
+    public void between_elementAdded_singleChange() {
+        assertRoundTrip(Arrays.asList("a", "b", "c", "d", "e", "f"), 1);
+        assertRoundTrip(Arrays.asList("z", "a", "b", "c", "d", "e"), 1);
+    }
+
+    @Test
+    public void between_elementRemoved_singleChange() {
+        assertRoundTrip(Arrays.asList("a", "b", "d", "e"), 1);
+        assertRoundTrip(Arrays.asList(), 1);
+    }
+
+    @Test
+    public void between_elementsReplaced_changePerRun() {
+        assertRoundTrip(Arrays.asList("x", "b", "y", "z", "e"), 2);
+    }
+
+    @Test
+    public void between_changedElementsAndSizeChanged_singleChange() {
+        assertRoundTrip(Arrays.asList("x", "b", "d", "y"), 1);
+    }
+
+    @Test
+    public void applyTo_changeOutOfRange_throwsIllegalValueException() {
+        JsonAdaptedListChange<String> change = new JsonAdaptedListChange<>(4, 2, Arrays.asList("x"));
+        assertThrows(IllegalValueException.class, () -> change.applyTo(new ArrayList<>(BEFORE)));
+    }
+
+    /**
+     * Asserts that the changes between {@code BEFORE} and {@code after} are {@code expectedChangeCount} in number,
+     * and turn {@code BEFORE} into {@code after}.
+     */
+    private void assertRoundTrip(List<String> after, int expectedChangeCount) {
+        List<JsonAdaptedListChange<String>> changes = JsonAdaptedListChange.between(BEFORE, after,
+                Function.identity());
+        assertEquals(expectedChangeCount, changes.size());
+
+        List<String> list = new ArrayList<>(BEFORE);
+        try {
+            for (JsonAdaptedListChange<String> change : changes) {
+                change.applyTo(list);
+            }
+        } catch (IllegalValueException e) {
+            throw new AssertionError("The changes should fit the list.", e);
+        }
+        assertEquals(after, list);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookReaderTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path STORAGE_TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBook = JsonAddressBookReader.read(
+                SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json"));
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void read_unknownFields_fieldsIgnored() throws Exception {
+        AddressBook addressBook = JsonAddressBookReader.read(TEST_DATA_FOLDER.resolve("extraFieldsAddressBook.json"));
+        assertEquals(1, addressBook.getPersonList().size());
+        assertEquals(1, addressBook.getTeamList().size());
+        assertTrue(addressBook.getPositionList().isEmpty());
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(
+                SERIALIZABLE_TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json")));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookReader.read(SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json")));
+    }
+
+    @Test
+    public void read_missingTeams_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class,
+                String.format(JsonAddressBookReader.MISSING_LIST_MESSAGE_FORMAT, "teams"), () ->
+                JsonAddressBookReader.read(
+                        STORAGE_TEST_DATA_FOLDER.resolve("validPersonAndMissingTeamAddressBook.json")));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(
+                STORAGE_TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json")));
+    }
+}
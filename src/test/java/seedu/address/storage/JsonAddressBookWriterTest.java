@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_prettyPrinted_sameAsSerializableAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(addressBook, out, true);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void write_notPrettyPrinted_singleLineReadBack() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Path filePath = testFolder.resolve("AddressBook.json");
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            JsonAddressBookWriter.write(addressBook, out, false);
+        }
+        assertFalse(Files.readString(filePath).contains("\n"));
+        assertEquals(addressBook, JsonAddressBookReader.read(filePath));
+    }
+}
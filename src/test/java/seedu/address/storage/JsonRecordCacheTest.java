@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+
+public class JsonRecordCacheTest {
+
+    @Test
+    public void writePersons_prettyPrinted_sameAsWithoutCache() throws Exception {
+        assertSameAsWithoutCache(new JsonRecordCache(true));
+    }
+
+    @Test
+    public void writePersons_notPrettyPrinted_sameAsWithoutCache() throws Exception {
+        assertSameAsWithoutCache(new JsonRecordCache(false));
+    }
+
+    /**
+     * Asserts that writing a changing address book through {@code recordCache} gives the same output as writing it
+     * without a cache after every change.
+     */
+    private void assertSameAsWithoutCache(JsonRecordCache recordCache) throws Exception {
+        AddressBook addressBook = new AddressBook();
+        assertWrittenSame(addressBook, recordCache);
+
+        addressBook = getTypicalAddressBook();
+        assertWrittenSame(addressBook, recordCache);
+        assertWrittenSame(addressBook, recordCache);
+
+        addressBook.addPerson(HOON);
+        addressBook.setPerson(BENSON, BENSON.withCaptain(!BENSON.isCaptain()));
+        assertWrittenSame(addressBook, recordCache);
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(ALICE);
+        assertWrittenSame(addressBook, recordCache);
+    }
+
+    private void assertWrittenSame(AddressBook addressBook, JsonRecordCache recordCache) throws Exception {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(addressBook, expected, recordCache.isPrettyPrinted());
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(addressBook, actual, recordCache);
+        assertEquals(expected.toString(StandardCharsets.UTF_8), actual.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.storage.ParallelRecordConverter.CHUNK_SIZE;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.storage.ParallelRecordConverter.Converter;
+
+public class ParallelRecordConverterTest {
+
+    private static final Converter<Integer, String> TO_STRING = Object::toString;
+
+    @Test
+    public void convert_smallList_convertedInOrder() throws Exception {
+        assertEquals(List.of(), ParallelRecordConverter.convert(List.of(), TO_STRING));
+        assertEquals(List.of("3", "1", "2"), ParallelRecordConverter.convert(List.of(3, 1, 2), TO_STRING));
+    }
+
+    @Test
+    public void convert_severalChunks_convertedInOrder() throws Exception {
+        List<Integer> records = range(10 * CHUNK_SIZE + 7);
+        List<String> expected = records.stream().map(Object::toString).collect(Collectors.toList());
+        assertEquals(expected, ParallelRecordConverter.convert(records, TO_STRING));
+    }
+
+    @Test
+    public void convert_invalidRecords_throwsExceptionOfFirst() {
+        List<Integer> records = range(10 * CHUNK_SIZE + 7);
+        Converter<Integer, String> converter = rejecting(Set.of(CHUNK_SIZE + 5, 3 * CHUNK_SIZE, 10 * CHUNK_SIZE + 1));
+        assertThrows(IllegalValueException.class, "invalid " + (CHUNK_SIZE + 5), () ->
+                ParallelRecordConverter.convert(records, converter));
+
+        // several invalid records in one chunk
+        Converter<Integer, String> sameChunkConverter = rejecting(Set.of(7 * CHUNK_SIZE + 9, 7 * CHUNK_SIZE + 2));
+        assertThrows(IllegalValueException.class, "invalid " + (7 * CHUNK_SIZE + 2), () ->
+                ParallelRecordConverter.convert(records, sameChunkConverter));
+
+        // in the last, partial chunk
+        Converter<Integer, String> lastChunkConverter = rejecting(Set.of(10 * CHUNK_SIZE + 6));
+        assertThrows(IllegalValueException.class, "invalid " + (10 * CHUNK_SIZE + 6), () ->
+                ParallelRecordConverter.convert(records, lastChunkConverter));
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a converter that rejects the records in {@code invalidRecords}.
+     */
+    private static Converter<Integer, String> rejecting(Set<Integer> invalidRecords) {
+        return record -> {
+            if (invalidRecords.contains(record)) {
+                throw new IllegalValueException("invalid " + record);
+            }
+            return record.toString();
+        };
+    }
+}
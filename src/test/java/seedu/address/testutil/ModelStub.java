@@ -1,17 +1,25 @@
 package seedu.address.testutil;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.CompletionField;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.FilterByInjuryPredicate;
 import seedu.address.model.person.Injury;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.position.FilterByPositionPredicate;
 import seedu.address.model.position.Position;
+import seedu.address.model.team.FilterByTeamPredicate;
 import seedu.address.model.team.Team;
 
 
@@ -61,6 +69,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setAddressBook(ReadOnlyAddressBook newData) {
         throw new AssertionError("This method should not be called.");
@@ -116,6 +129,33 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Predicate<Person> selectPersons(FilterByTeamPredicate teamPredicate,
+                                           FilterByInjuryPredicate injuryPredicate,
+                                           FilterByPositionPredicate positionPredicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Person> selectInjuredPersons() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Person> selectCaptains() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Person> selectPersonsByName(NameContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<String> getCompletions(CompletionField field, String prefix, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredTeamList(Predicate<Team> predicate) {
         throw new AssertionError("This method should not be called.");
@@ -161,6 +201,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Set<Person> getTeamMembers(Team team) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getTeamPlayerCount(Team team) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deleteTeam(Team team) {
         throw new AssertionError("This method should not be called.");
@@ -201,6 +251,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public int getPositionPlayerCount(Position position) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Map<Position, Integer> getPlayerCountByPosition() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Person getTeamCaptain(Team team) {
         throw new AssertionError("This method should not be called.");